@@ -0,0 +1,77 @@
+package com.umr.core;
+
+import com.umr.utils.LogUtil;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A named lookup with several fallback strategies that are tried in the order of their observed success.
+ * A strategy misses by returning null or Boolean.FALSE, or by throwing. Every attempt is timed and recorded
+ * in {@link LocatorStats}, so the historically cheapest successful strategy is tried first and the common
+ * path costs a single lookup.
+ *
+ * @param <T> The lookup result type
+ */
+public class AdaptiveLocator<T> {
+    private final String name;
+    private final Map<String, Supplier<T>> strategies = new LinkedHashMap<>();
+
+    /**
+     * Creates a locator.
+     *
+     * @param name The locator name, unique across the framework; used as the key of its statistics
+     */
+    public AdaptiveLocator(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Adds a strategy. Strategies without history are tried in the order they were added.
+     *
+     * @param strategyName The strategy name
+     * @param strategy The lookup
+     * @return This locator
+     */
+    public AdaptiveLocator<T> strategy(String strategyName, Supplier<T> strategy) {
+        strategies.put(strategyName, strategy);
+        return this;
+    }
+
+    /**
+     * Tries the strategies until one hits.
+     *
+     * @return The result of the first strategy that hit, or null if none did
+     */
+    public T locate() {
+        for (String strategyName : LocatorStats.order(name, new ArrayList<>(strategies.keySet()))) {
+            long startTime = System.currentTimeMillis();
+            T result = null;
+            try {
+                result = strategies.get(strategyName).get();
+            } catch (RuntimeException e) {
+                LogUtil.debug("Locator " + name + " strategy '" + strategyName + "' failed: " + e.getMessage());
+            }
+
+            boolean hit = result != null && !Boolean.FALSE.equals(result);
+            LocatorStats.record(name, strategyName, hit, System.currentTimeMillis() - startTime);
+            if (hit) {
+                LogUtil.debug("Locator " + name + " resolved by strategy '" + strategyName + "'");
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the strategy names in the order they will be tried.
+     *
+     * @return The strategy names
+     */
+    public List<String> getOrder() {
+        return LocatorStats.order(name, new ArrayList<>(strategies.keySet()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.umr.core;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Collects browser startup and navigation timings for the test running on the current thread,
+ * so that launch profiles can be compared per test.
+ */
+public class BrowserMetrics {
+    private static final ThreadLocal<Metrics> metricsThreadLocal = ThreadLocal.withInitial(Metrics::new);
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BrowserMetrics() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Clears the timings of the current thread. Called when a test starts.
+     */
+    public static void reset() {
+        metricsThreadLocal.set(new Metrics());
+    }
+
+    /**
+     * Records how long it took to launch and configure the browser.
+     *
+     * @param startupMillis Browser startup time in milliseconds
+     */
+    public static void recordStartup(long startupMillis) {
+        metricsThreadLocal.get().startupMillis += startupMillis;
+    }
+
+    /**
+     * Navigates to a URL and records how long the navigation took.
+     *
+     * @param driver The WebDriver instance
+     * @param url The URL to open
+     */
+    public static void timedGet(WebDriver driver, String url) {
+        long startTime = System.currentTimeMillis();
+        try {
+            driver.get(url);
+        } finally {
+            recordNavigation(url, System.currentTimeMillis() - startTime);
+        }
+    }
+
+    /**
+     * Records a navigation that was timed elsewhere.
+     *
+     * @param url The URL that was opened
+     * @param navigationMillis Navigation time in milliseconds
+     */
+    public static void recordNavigation(String url, long navigationMillis) {
+        Metrics metrics = metricsThreadLocal.get();
+        metrics.navigationCount++;
+        metrics.navigationMillis += navigationMillis;
+        if (navigationMillis > metrics.slowestNavigationMillis) {
+            metrics.slowestNavigationMillis = navigationMillis;
+            metrics.slowestUrl = url;
+        }
+    }
+
+    /**
+     * Gets the timings of the current thread.
+     *
+     * @return The timings collected since the last reset
+     */
+    public static Metrics get() {
+        return metricsThreadLocal.get();
+    }
+
+    /**
+     * Startup and navigation timings of one test.
+     */
+    public static class Metrics {
+        private long startupMillis;
+        private int navigationCount;
+        private long navigationMillis;
+        private long slowestNavigationMillis;
+        private String slowestUrl;
+
+        public long getStartupMillis() {
+            return startupMillis;
+        }
+
+        public int getNavigationCount() {
+            return navigationCount;
+        }
+
+        public long getNavigationMillis() {
+            return navigationMillis;
+        }
+
+        public long getSlowestNavigationMillis() {
+            return slowestNavigationMillis;
+        }
+
+        public String getSlowestUrl() {
+            return slowestUrl;
+        }
+
+        @Override
+        public String toString() {
+            String summary = "startup " + startupMillis + " ms, " + navigationCount + " navigation(s) in " +
+                    navigationMillis + " ms";
+            if (slowestUrl != null) {
+                summary += ", slowest " + slowestNavigationMillis + " ms: " + slowestUrl;
+            }
+            return summary;
+        }
+    }
+}
@@ -1,14 +1,36 @@
 package com.umr.core;
 
+import com.umr.core.config.ConfigLoader;
+import com.umr.core.devtools.NetworkRecorder;
+import com.umr.core.devtools.RequestBlocker;
+import com.umr.core.jfr.FrameworkRecording;
+import com.umr.core.metrics.MetricsEndpoint;
+import com.umr.core.metrics.RunMetrics;
 import com.umr.core.keyword.CBPKeywords;
 import com.umr.reporting.EmailReporter;
+import com.umr.reporting.HistoryStore;
 import com.umr.reporting.ReportManager;
+import com.umr.reporting.RunJournal;
 import com.umr.utils.ExcelReader;
 import com.umr.utils.LogUtil;
 import com.umr.utils.ScreenshotUtils;
-
+import com.umr.utils.SleepAuditor;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Test runner specifically for CBP (Customs and Border Protection) automation tests.
@@ -16,7 +38,11 @@ import java.util.Map;
  */
 public class CBPTestRunner {
 
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+    private static final String RUN_ID = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+
     private static EmailReporter emailReporter;
+    private static RunJournal runJournal;
 
     public static void main(String[] args) {
         LogUtil.info("Starting CBP Test Execution");
@@ -24,33 +50,66 @@ public class CBPTestRunner {
 
         // Initialize email reporter
         emailReporter = new EmailReporter();
+        FrameworkRecording.start(RUN_ID);
 
         try {
             // Initialize reporting
             ReportManager.initializeReport();
 
-            // Get active test cases from TestRunner
-            List<Map<String, String>> activeTests = ExcelReader.getActiveTestCases();
+            List<Map<String, String>> activeTests;
+            Set<String> completedTests;
+
+            String rerunArg = getArgument(args, "--rerun-failed");
+            if (rerunArg != null) {
+                // Rerun only the failed/skipped tests of a previous run, merging over its results
+                activeTests = prepareRerun(rerunArg);
+                completedTests = Collections.emptySet();
+
+                if (activeTests == null) {
+                    // Nothing to merge over; an empty report would read as an all-passed run
+                    LogUtil.error("Rerun aborted without a previous run journal. No report or email is produced.");
+                    return;
+                }
+
+                if (activeTests.isEmpty()) {
+                    // Still finalize and send the report with the carried-over results
+                    LogUtil.warn("No failed or skipped tests to rerun. Reporting the previous results.");
+                }
+            } else {
+                // Get active test cases from TestRunner
+                activeTests = ExcelReader.getActiveTestCases();
+
+                if (activeTests.isEmpty()) {
+                    LogUtil.warn("No active tests found in TestRunner. Execution complete.");
+                    return;
+                }
 
-            if (activeTests.isEmpty()) {
-                LogUtil.warn("No active tests found in TestRunner. Execution complete.");
-                return;
+                // Open the run journal, restoring completed tests when resuming
+                completedTests = openRunJournal(args);
             }
 
             LogUtil.info("Found " + activeTests.size() + " active CBP test(s)");
 
-            // Create keyword executor with CBPKeywords
-            KeywordExecutor keywordExecutor = new KeywordExecutor(new CBPKeywords());
-
-            // Execute each test
+            // Queue each test that still has to run; retries are added to the back of the same queue
+            LinkedBlockingDeque<QueuedTest> testQueue = new LinkedBlockingDeque<>();
             for (Map<String, String> test : activeTests) {
-                executeTest(test, keywordExecutor);
+                if (completedTests.contains(test.get("TestID"))) {
+                    LogUtil.info("Skipping test already completed in resumed run: " + test.get("TestID"));
+                    continue;
+                }
 
-                // Reset driver state completely after each test
-                DriverManager.resetDriver();
+                testQueue.addLast(new QueuedTest(test, 1));
             }
 
+            RunMetrics.runStarted(testQueue.size(), testQueue::size);
+            MetricsEndpoint.start();
+            executeQueue(testQueue);
+
             LogUtil.info("CBP Test Execution Completed");
+            closeRunJournal();
+            LocatorStats.flush(RUN_ID);
+            SleepAuditor.writeReport(RUN_ID);
+            reportRequestBlocking();
 
             // Finalize the report
             ReportManager.finalizeReport();
@@ -64,31 +123,138 @@ public class CBPTestRunner {
 
         } catch (Exception e) {
             LogUtil.error("Error during CBP test execution", e);
+            closeRunJournal();
+            LocatorStats.flush(RUN_ID);
+            SleepAuditor.writeReport(RUN_ID);
+            reportRequestBlocking();
+
             // Make sure to finalize report even if there's an exception
             ReportManager.finalizeReport();
 
             // Send email report even on failure
             sendEmailReport(0);
+        } finally {
+            // Also on the early returns, so the flight recording is always written
+            FrameworkRecording.stop();
+            MetricsEndpoint.stop();
+        }
+    }
+
+    /**
+     * Executes all queued tests on parallel.threads worker threads.
+     * Returns once every test has reached its final outcome, including retries.
+     *
+     * @param testQueue The tests to execute
+     * @throws InterruptedException If the runner is interrupted while waiting for the workers
+     */
+    private static void executeQueue(LinkedBlockingDeque<QueuedTest> testQueue) throws InterruptedException {
+        int threadCount = Math.max(1, config.getIntProperty("parallel.threads", 1));
+        AtomicInteger pendingTests = new AtomicInteger(testQueue.size());
+
+        LogUtil.info("Executing " + pendingTests.get() + " test(s) on " + threadCount + " thread(s), max " +
+                RetryPolicy.getMaxAttempts() + " attempt(s) per test");
+
+        AtomicInteger workerNumber = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(threadCount,
+                runnable -> new Thread(runnable, "cbp-worker-" + workerNumber.incrementAndGet()));
+        for (int i = 0; i < threadCount; i++) {
+            workers.submit(() -> runWorker(testQueue, pendingTests));
+        }
+
+        workers.shutdown();
+        workers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+
+    private static void runWorker(LinkedBlockingDeque<QueuedTest> testQueue, AtomicInteger pendingTests) {
+        // Each worker gets its own keyword instance and WebDriver (DriverManager is ThreadLocal)
+        KeywordExecutor keywordExecutor = new KeywordExecutor(new CBPKeywords());
+
+        try {
+            // A test that is still running may queue a retry, so wait until nothing is pending
+            while (pendingTests.get() > 0) {
+                QueuedTest queuedTest = testQueue.poll(200, TimeUnit.MILLISECONDS);
+                if (queuedTest == null) {
+                    continue;
+                }
+
+                boolean requeued = false;
+                RunMetrics.workerBusy();
+                try {
+                    requeued = executeAttempt(queuedTest, testQueue, keywordExecutor);
+                } catch (Exception e) {
+                    LogUtil.error("Unexpected error executing test: " + queuedTest.test.get("TestID"), e);
+                } finally {
+                    RunMetrics.workerIdle();
+                    if (!requeued) {
+                        pendingTests.decrementAndGet();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            LogUtil.warn("Test worker interrupted: " + Thread.currentThread().getName());
+            Thread.currentThread().interrupt();
         }
     }
 
-    private static void executeTest(Map<String, String> test, KeywordExecutor keywordExecutor) {
+    /**
+     * Executes one attempt of a test and either queues a retry or records the final result.
+     *
+     * @return True if a retry was queued, false if the test is finished
+     */
+    private static boolean executeAttempt(QueuedTest queuedTest, LinkedBlockingDeque<QueuedTest> testQueue,
+                                          KeywordExecutor keywordExecutor) {
+        Map<String, String> test = queuedTest.test;
+        int attempt = queuedTest.attempt;
+
+        // Every attempt, and in particular every retry, starts on a fresh browser session
+        DriverManager.resetDriver();
+        TestOutcome outcome = executeTest(test, keywordExecutor, attempt);
+
+        // Reset driver state completely after each test
+        DriverManager.resetDriver();
+
+        boolean retry = RetryPolicy.shouldRetry(attempt, outcome.status, outcome.failureReason);
+        recordAttemptHistory(test, attempt, outcome, retry);
+
+        if (retry) {
+            String testId = test.get("TestID");
+            String testName = test.get("TestName");
+            LogUtil.warn("Transient failure in test " + testId + " (attempt " + attempt + " of " +
+                    RetryPolicy.getMaxAttempts() + "): " + outcome.failureReason + ". Queued for retry.");
+            ReportManager.logWarning(testId, testName, "Transient failure - retry queued on a fresh browser session");
+            testQueue.addLast(new QueuedTest(test, attempt + 1));
+            RunMetrics.testRetried();
+            return true;
+        }
+
+        recordFinalResult(test, outcome);
+        return false;
+    }
+
+    private static TestOutcome executeTest(Map<String, String> test, KeywordExecutor keywordExecutor, int attempt) {
         String testId = test.get("TestID");
         String testName = test.get("TestName");
         String description = test.get("Description");
-        String jiraTicket = test.get("JiraTicket"); // Get JIRA ticket from Excel
 
         long testStartTime = System.currentTimeMillis();
 
         LogUtil.startTest(testId, testName);
+        BrowserMetrics.reset();
+        PageMetrics.reset();
+        FrameworkRecording.setTestId(testId);
+        RequestBlocker.setTestSetting(test.get("BlockRequests"));
+        if (attempt > 1) {
+            LogUtil.info("Attempt " + attempt + " of " + RetryPolicy.getMaxAttempts() + " for test: " + testId);
+        }
         TestContext context = new TestContext(testId, testName);
 
         // Create test in report
-        ReportManager.createTest(testId, testName, description != null ? description : testName);
+        ReportManager.createTest(testId, testName, description != null ? description : testName, attempt);
 
-        String testStatus = "UNKNOWN";
-        String failureReason = null;
-        String tecsId = null;
+        TestOutcome outcome = new TestOutcome();
+
+        // Wall-clock budget for the whole test, on top of the per-keyword timeouts
+        Watchdog.Ticket testTicket = Watchdog.arm(testId, config.getIntProperty("test.timeout.seconds", 0));
 
         try {
             // Load test data
@@ -109,31 +275,49 @@ public class CBPTestRunner {
                 ReportManager.logFail(testId, testName, "No keywords found for test ID: " + testId);
                 LogUtil.endTest(testId, testName, "FAIL");
                 ReportManager.markTestAsFailed(testId, testName, "No keywords found for test ID: " + testId);
-                testStatus = "FAILED";
-                failureReason = "No keywords found for test ID: " + testId;
-                return;
+                outcome.status = "FAILED";
+                outcome.failureReason = "No keywords found for test ID: " + testId;
+                return outcome;
             }
 
             LogUtil.info("Executing CBP test with " + keywords.size() + " keywords");
 
             // Execute each keyword in sequence
+            int keywordNumber = 0;
             for (String keyword : keywords) {
                 if (keyword == null || keyword.trim().isEmpty()) {
                     continue; // Skip empty keywords
                 }
+                keywordNumber++;
 
                 LogUtil.info("Executing keyword: " + keyword);
                 ReportManager.logInfo(testId, testName, "Executing keyword: " + keyword);
 
+                NetworkRecorder recorder = NetworkRecorder.get(context.getDriver());
+                if (recorder != null) {
+                    recorder.beginWindow();
+                }
+                long keywordStartTime = System.currentTimeMillis();
                 boolean result = keywordExecutor.executeKeyword(keyword, context);
+                String keywordTiming = describeKeywordTiming(context, keyword, keywordNumber, attempt,
+                        System.currentTimeMillis() - keywordStartTime);
+
+                if (testTicket.isExpired()) {
+                    // Wait for the watchdog to finish reclaiming the session and clear its interrupt
+                    testTicket.disarm();
+                    context.setTestFailed("Test " + Watchdog.BUDGET_EXCEEDED + " of " + testTicket.getTimeoutSeconds() +
+                            "s during keyword: " + keyword + (testTicket.getThreadDumpPath() != null
+                            ? " (thread dump: " + testTicket.getThreadDumpPath() + ")" : ""));
+                    result = false;
+                }
 
                 if (result) {
-                    ReportManager.logPass(testId, testName, "Keyword executed successfully: " + keyword);
+                    ReportManager.logPass(testId, testName, "Keyword executed successfully: " + keyword + keywordTiming);
                 } else {
                     LogUtil.error("Test failed during keyword: " + keyword);
-                    failureReason = context.getFailureReason();
-                    ReportManager.logFail(testId, testName, "Keyword failed: " + keyword +
-                            (failureReason != null ? " - Reason: " + failureReason : ""));
+                    outcome.failureReason = context.getFailureReason();
+                    ReportManager.logFail(testId, testName, "Keyword failed: " + keyword + keywordTiming +
+                            (outcome.failureReason != null ? " - Reason: " + outcome.failureReason : ""));
 
                     // Take and attach failure screenshot
                     String screenshotPath = ScreenshotUtils.takeFailureScreenshot(testId, testName, context.getFailureReason());
@@ -145,18 +329,18 @@ public class CBPTestRunner {
             }
 
             // Get TECS ID if available
-            tecsId = context.getFromContextAsString("TECS_ID");
+            outcome.tecsId = context.getFromContextAsString("TECS_ID");
 
             // Log test result
-            testStatus = context.isTestPassed() ? "PASSED" : "FAILED";
-            LogUtil.endTest(testId, testName, testStatus);
+            outcome.status = context.isTestPassed() ? "PASSED" : "FAILED";
+            LogUtil.endTest(testId, testName, outcome.status);
 
             if (context.isTestPassed()) {
                 ReportManager.markTestAsPassed(testId, testName, "CBP test executed successfully");
             } else {
                 ReportManager.markTestAsFailed(testId, testName, "CBP test failed: " + context.getFailureReason());
-                if (failureReason == null) {
-                    failureReason = context.getFailureReason();
+                if (outcome.failureReason == null) {
+                    outcome.failureReason = context.getFailureReason();
                 }
             }
 
@@ -165,20 +349,307 @@ public class CBPTestRunner {
             LogUtil.endTest(testId, testName, "FAILED");
             ReportManager.logFail(testId, testName, "Exception during CBP test execution: " + e.getMessage());
             ReportManager.markTestAsFailed(testId, testName, "Exception: " + e.getMessage());
-            testStatus = "FAILED";
-            failureReason = "Exception: " + e.getMessage();
+            outcome.status = "FAILED";
+            outcome.failureReason = "Exception: " + e.getMessage();
         } finally {
+            testTicket.disarm();
+
             // Calculate test duration
             long testEndTime = System.currentTimeMillis();
-            long testDuration = (testEndTime - testStartTime) / 1000; // in seconds
-            String durationString = formatDuration(testDuration);
+            outcome.durationSeconds = (testEndTime - testStartTime) / 1000; // in seconds
 
-            // Add test result to email reporter
-            emailReporter.addTestResult(testId, testName, testStatus, durationString, jiraTicket, tecsId, failureReason);
+            recordBrowserMetrics(testId, testName, attempt);
+            recordPageMetrics(testId, attempt);
+            RequestBlocker.clearTestSetting();
+            FrameworkRecording.setTestId(null);
 
             // Clean up resources
             context.cleanup();
         }
+
+        return outcome;
+    }
+
+    /**
+     * Describes how long a keyword took and, when network recording is on, what the network did meanwhile,
+     * so a slow keyword can be attributed to the backend or to the framework. The full network window of a
+     * keyword slower than network.recorder.har.threshold.seconds is written as a gzipped HAR-like file.
+     *
+     * @return The description, e.g. " (4210ms; network: 12 request(s), ...)"
+     */
+    private static String describeKeywordTiming(TestContext context, String keyword, int keywordNumber, int attempt,
+                                                long keywordMillis) {
+        NetworkRecorder recorder = NetworkRecorder.get(context.getDriver());
+        if (recorder == null) {
+            return " (" + keywordMillis + "ms)";
+        }
+
+        NetworkRecorder.Window window = recorder.endWindow();
+        StringBuilder timing = new StringBuilder(" (").append(keywordMillis).append("ms; network: ")
+                .append(window.getSummary());
+        if (keywordMillis >= config.getIntProperty("network.recorder.har.threshold.seconds", 10) * 1000L) {
+            File harFile = new File(config.getProperty("network.recorder.dir", "./reports/network") + File.separator +
+                    RUN_ID, context.getTestId() + "_attempt" + attempt + "_" + keywordNumber + "_" +
+                    keyword.trim().replaceAll("[^A-Za-z0-9_-]", "_") + ".har.gz");
+            try {
+                window.writeHar(harFile);
+                timing.append("; HAR: ").append(harFile.getPath());
+            } catch (IOException e) {
+                LogUtil.warn("Could not write network recording of keyword " + keyword + ": " + e.getMessage());
+            }
+        }
+        return timing.append(")").toString();
+    }
+
+    /**
+     * Reports the browser startup and navigation times of the current test, tagged with the launch profile.
+     */
+    private static void recordBrowserMetrics(String testId, String testName, int attempt) {
+        BrowserMetrics.Metrics metrics = BrowserMetrics.get();
+        String profile = DriverManager.getLaunchProfile();
+        ReportManager.logInfo(testId, testName, "Browser timings (" + profile + " profile): " + metrics);
+
+        LinkedHashMap<String, String> record = new LinkedHashMap<>();
+        record.put("RunID", RUN_ID);
+        record.put("TestID", testId);
+        record.put("Attempt", String.valueOf(attempt));
+        record.put("Browser", config.getProperty("browser", "chrome").toLowerCase());
+        record.put("Profile", profile);
+        record.put("StartupMs", String.valueOf(metrics.getStartupMillis()));
+        record.put("Navigations", String.valueOf(metrics.getNavigationCount()));
+        record.put("NavigationMs", String.valueOf(metrics.getNavigationMillis()));
+        record.put("SlowestNavigationMs", String.valueOf(metrics.getSlowestNavigationMillis()));
+        record.put("SlowestUrl", metrics.getSlowestUrl());
+        HistoryStore.append("browser-metrics", record);
+    }
+
+    /**
+     * Adds the request blocking counters of the run to the report's system info.
+     */
+    private static void reportRequestBlocking() {
+        long blocked = RequestBlocker.getBlockedTotal();
+        if (blocked == 0) {
+            return;
+        }
+        ReportManager.setSystemInfo("Blocked Requests", blocked + " " + RequestBlocker.getBlockedCounts());
+        ReportManager.setSystemInfo("Blocked Bytes Saved", String.format("%.1f KB", RequestBlocker.getBytesSaved() / 1024.0));
+        LogUtil.info("Request blocking: " + blocked + " request(s) blocked " + RequestBlocker.getBlockedCounts() +
+                ", " + RequestBlocker.getBytesSaved() + " bytes saved");
+    }
+
+    /**
+     * Writes the page timings captured during the current test to the page-metrics history.
+     */
+    private static void recordPageMetrics(String testId, int attempt) {
+        for (PageMetrics.Timing timing : PageMetrics.get()) {
+            LinkedHashMap<String, String> record = new LinkedHashMap<>();
+            record.put("RunID", RUN_ID);
+            record.put("TestID", testId);
+            record.put("Attempt", String.valueOf(attempt));
+            record.put("Environment", config.getProperty("environment", "QA"));
+            record.put("Browser", config.getProperty("browser", "chrome").toLowerCase());
+            record.put("Profile", DriverManager.getLaunchProfile());
+            record.put("Page", timing.getPage());
+            record.put("URL", timing.getUrl());
+            record.put("TtfbMs", String.valueOf(timing.getTtfb()));
+            record.put("DomContentLoadedMs", String.valueOf(timing.getDomContentLoaded()));
+            record.put("LoadMs", String.valueOf(timing.getLoad()));
+            record.put("FcpMs", String.valueOf(timing.getFirstContentfulPaint()));
+            record.put("LcpMs", String.valueOf(timing.getLargestContentfulPaint()));
+            record.put("TransferBytes", String.valueOf(timing.getTransferSize()));
+            HistoryStore.append("page-metrics", record);
+        }
+    }
+
+    /**
+     * Records the final outcome of a test in the run journal and the email summary.
+     */
+    private static void recordFinalResult(Map<String, String> test, TestOutcome outcome) {
+        String testId = test.get("TestID");
+        String testName = test.get("TestName");
+        String jiraTicket = test.get("JiraTicket"); // Get JIRA ticket from Excel
+        String durationString = formatDuration(outcome.durationSeconds);
+        String completedAt = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date());
+
+        // Record the result in the run journal before anything else can fail
+        if (runJournal != null) {
+            runJournal.record(new RunJournal.JournalEntry(testId, testName, outcome.status, durationString,
+                    jiraTicket, outcome.tecsId, outcome.failureReason, completedAt));
+        }
+
+        RunMetrics.testCompleted(outcome.status);
+
+        // Add test result to email reporter
+        emailReporter.addTestResult(testId, testName, outcome.status, durationString, jiraTicket, outcome.tecsId,
+                outcome.failureReason, completedAt);
+    }
+
+    /**
+     * Records a single attempt of a test in the test-attempts history.
+     */
+    private static void recordAttemptHistory(Map<String, String> test, int attempt, TestOutcome outcome,
+                                             boolean retried) {
+        LinkedHashMap<String, String> record = new LinkedHashMap<>();
+        record.put("RunID", RUN_ID);
+        record.put("TestID", test.get("TestID"));
+        record.put("TestName", test.get("TestName"));
+        record.put("Attempt", String.valueOf(attempt));
+        record.put("Status", outcome.status);
+        record.put("DurationSeconds", String.valueOf(outcome.durationSeconds));
+        record.put("FailureReason", outcome.failureReason);
+        record.put("Transient", String.valueOf(RetryPolicy.isTransient(outcome.failureReason)));
+        record.put("Retried", String.valueOf(retried));
+        record.put("Thread", Thread.currentThread().getName());
+        record.put("Timestamp", new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date()));
+        HistoryStore.append("test-attempts", record);
+    }
+
+    /**
+     * Opens the run journal. With --resume (latest journal) or --resume=path the given journal is
+     * continued and its completed tests are restored into the report and email summary.
+     *
+     * @param args Command line arguments
+     * @return TestIDs already completed in the resumed run; empty for a fresh run
+     */
+    private static Set<String> openRunJournal(String[] args) {
+        String resumeArg = getArgument(args, "--resume");
+        if (resumeArg == null) {
+            runJournal = RunJournal.startNew();
+            return Collections.emptySet();
+        }
+
+        File journalFile = resumeArg.isEmpty() ? RunJournal.findLatestJournal() : new File(resumeArg);
+        if (journalFile == null || !journalFile.isFile()) {
+            LogUtil.warn("No run journal found to resume" + (resumeArg.isEmpty() ? "" : ": " + resumeArg) +
+                    ". Starting a fresh run.");
+            runJournal = RunJournal.startNew();
+            return Collections.emptySet();
+        }
+
+        Map<String, RunJournal.JournalEntry> entries = RunJournal.readLatestEntries(journalFile);
+        for (RunJournal.JournalEntry entry : entries.values()) {
+            restoreTestResult(entry, journalFile);
+        }
+
+        LogUtil.info("Resuming run from journal " + journalFile.getName() + " - " + entries.size() +
+                " test(s) already completed");
+        runJournal = RunJournal.resume(journalFile);
+        return entries.keySet();
+    }
+
+    /**
+     * Prepares a rerun of a previous run's failed and skipped tests. With --rerun-failed the latest
+     * journal is used, with --rerun-failed=path the given one. Passed results are restored into the
+     * report, email summary and the new run journal, so the new run's results merge over the old ones.
+     *
+     * @param rerunArg Value of the --rerun-failed argument
+     * Failed or skipped tests that are no longer in TestRunner cannot be rerun; their previous results are
+     * carried over as well.
+     *
+     * @return The test cases to rerun, in TestRunner order, or null if no previous run journal was found
+     * @throws IOException If the TestRunner file cannot be read
+     */
+    private static List<Map<String, String>> prepareRerun(String rerunArg) throws IOException {
+        File previousJournal = rerunArg.isEmpty() ? RunJournal.findLatestJournal() : new File(rerunArg);
+        if (previousJournal == null || !previousJournal.isFile()) {
+            LogUtil.error("No previous run journal found to rerun failures from" +
+                    (rerunArg.isEmpty() ? "" : ": " + rerunArg));
+            return null;
+        }
+
+        Map<String, RunJournal.JournalEntry> previousResults = RunJournal.readLatestEntries(previousJournal);
+        runJournal = RunJournal.startNew();
+
+        Set<String> rerunIds = new LinkedHashSet<>();
+        for (RunJournal.JournalEntry entry : previousResults.values()) {
+            if (isPassed(entry.status)) {
+                restoreTestResult(entry, previousJournal);
+                runJournal.record(entry);
+            } else {
+                rerunIds.add(entry.testId);
+            }
+        }
+
+        List<Map<String, String>> rerunTests = rerunIds.isEmpty()
+                ? Collections.emptyList() : ExcelReader.getTestCases(rerunIds);
+
+        // Keep the failures of tests that were removed from TestRunner in the merged results
+        Set<String> unresolvedIds = new LinkedHashSet<>(rerunIds);
+        for (Map<String, String> test : rerunTests) {
+            unresolvedIds.remove(test.get("TestID"));
+        }
+        for (String testId : unresolvedIds) {
+            RunJournal.JournalEntry entry = previousResults.get(testId);
+            restoreTestResult(entry, previousJournal);
+            runJournal.record(entry);
+        }
+
+        LogUtil.info("Rerunning " + rerunTests.size() + " failed/skipped test(s) from " + previousJournal.getName() +
+                " - " + (previousResults.size() - rerunTests.size()) + " previous result(s) carried over");
+
+        return rerunTests;
+    }
+
+    private static boolean isPassed(String status) {
+        return "PASS".equalsIgnoreCase(status) || "PASSED".equalsIgnoreCase(status);
+    }
+
+    private static void restoreTestResult(RunJournal.JournalEntry entry, File journalFile) {
+        String testId = entry.testId;
+        String testName = entry.testName;
+
+        ReportManager.createTest(testId, testName, testName);
+        ReportManager.logInfo(testId, testName, "Result restored from run journal " + journalFile.getName() +
+                " (completed " + entry.timestamp + ", duration " + entry.duration + ")");
+
+        String status = entry.status != null ? entry.status.toUpperCase() : "";
+        switch (status) {
+            case "PASS":
+            case "PASSED":
+                ReportManager.markTestAsPassed(testId, testName, "CBP test executed successfully");
+                break;
+            case "SKIP":
+            case "SKIPPED":
+                ReportManager.markTestAsSkipped(testId, testName, "CBP test skipped");
+                break;
+            default:
+                ReportManager.markTestAsFailed(testId, testName, "CBP test failed: " + entry.failureReason);
+                break;
+        }
+
+        emailReporter.addTestResult(testId, testName, entry.status, entry.duration, entry.jiraTicket,
+                entry.tecsId, entry.failureReason, entry.timestamp);
+    }
+
+    private static void closeRunJournal() {
+        if (runJournal != null) {
+            LogUtil.info("Run journal saved: " + runJournal.getJournalFile().getPath());
+            runJournal.close();
+            runJournal = null;
+        }
+    }
+
+    /**
+     * Gets the value of a command line flag.
+     *
+     * @param args Command line arguments
+     * @param name Flag name, e.g. --resume
+     * @return The value after '=', an empty string if the flag has no value, or null if absent
+     */
+    private static String getArgument(String[] args, String name) {
+        if (args == null) {
+            return null;
+        }
+
+        for (String arg : args) {
+            if (arg.equals(name)) {
+                return "";
+            }
+            if (arg.startsWith(name + "=")) {
+                return arg.substring(name.length() + 1).trim();
+            }
+        }
+        return null;
     }
 
     private static void sendEmailReport(long executionTimeSeconds) {
@@ -229,4 +700,27 @@ public class CBPTestRunner {
             return hours + " hours " + remainingMinutes + " minutes";
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * A test waiting in the execution queue, with the attempt it will run as.
+     */
+    private static class QueuedTest {
+        private final Map<String, String> test;
+        private final int attempt;
+
+        private QueuedTest(Map<String, String> test, int attempt) {
+            this.test = test;
+            this.attempt = attempt;
+        }
+    }
+
+    /**
+     * Outcome of a single test attempt.
+     */
+    private static class TestOutcome {
+        private String status = "UNKNOWN";
+        private String failureReason;
+        private String tecsId;
+        private long durationSeconds;
+    }
+}
@@ -0,0 +1,203 @@
+package com.umr.core;
+
+import com.umr.core.config.ConfigLoader;
+import com.umr.utils.LogUtil;
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves WebDriver binaries (chromedriver, geckodriver, msedgedriver) once per JVM.
+ * Resolution order: explicit driver.path.&lt;browser&gt; setting, the local driver manifest written by an
+ * earlier run, and finally WebDriverManager. Paths resolved through WebDriverManager are persisted to the
+ * manifest so later runs and workers start without any version lookup or network access.
+ * With driver.offline=true WebDriverManager is never called.
+ */
+public class DriverBinaryResolver {
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+
+    private static final Map<String, String> resolvedPaths = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DriverBinaryResolver() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Makes sure the driver binary for a browser is resolved and registered with Selenium.
+     * Only the first call per browser does any work.
+     *
+     * @param browser The browser name (chrome, firefox or edge)
+     * @return The driver binary path, or null for browsers whose driver is not downloaded (e.g. safari)
+     */
+    public static String resolve(String browser) {
+        if (!usesDownloadedDriver(browser)) {
+            return null;
+        }
+
+        String cached = resolvedPaths.get(browser);
+        if (cached != null) {
+            return cached;
+        }
+
+        synchronized (DriverBinaryResolver.class) {
+            cached = resolvedPaths.get(browser);
+            if (cached != null) {
+                return cached;
+            }
+
+            long startTime = System.currentTimeMillis();
+            String path = resolveUncached(browser);
+            System.setProperty(getSystemProperty(browser), path);
+            resolvedPaths.put(browser, path);
+
+            LogUtil.info("Resolved " + browser + " driver in " + (System.currentTimeMillis() - startTime) +
+                    " ms: " + path);
+            return path;
+        }
+    }
+
+    /**
+     * Discards a cached resolution and resolves the driver again through WebDriverManager,
+     * e.g. after the installed browser was updated past the cached driver version.
+     *
+     * @param browser The browser name
+     * @return True if the driver was resolved again, false if that is not possible (offline, explicit path, or a
+     *         browser such as safari whose driver is not downloaded)
+     */
+    public static synchronized boolean refresh(String browser) {
+        if (!usesDownloadedDriver(browser) || isOffline() || !config.getProperty("driver.path." + browser, "").isEmpty()) {
+            return false;
+        }
+
+        LogUtil.warn("Refreshing cached " + browser + " driver resolution");
+        resolvedPaths.remove(browser);
+        String path = resolveWithWebDriverManager(browser);
+        System.setProperty(getSystemProperty(browser), path);
+        resolvedPaths.put(browser, path);
+        return true;
+    }
+
+    private static String resolveUncached(String browser) {
+        String explicitPath = config.getProperty("driver.path." + browser, "");
+        if (!explicitPath.isEmpty()) {
+            if (!new File(explicitPath).isFile()) {
+                throw new RuntimeException("Configured driver.path." + browser + " does not exist: " + explicitPath);
+            }
+            return explicitPath;
+        }
+
+        String manifestPath = readManifest().getProperty(browser + ".path");
+        if (manifestPath != null && new File(manifestPath).isFile()) {
+            LogUtil.debug("Using " + browser + " driver from manifest");
+            return manifestPath;
+        }
+
+        if (isOffline()) {
+            throw new RuntimeException("No " + browser + " driver available offline. Set driver.path." + browser +
+                    " or run once with network access to populate " + getManifestFile().getPath());
+        }
+
+        return resolveWithWebDriverManager(browser);
+    }
+
+    private static String resolveWithWebDriverManager(String browser) {
+        WebDriverManager manager;
+        switch (browser) {
+            case "firefox":
+                manager = WebDriverManager.firefoxdriver();
+                break;
+            case "edge":
+                manager = WebDriverManager.edgedriver();
+                break;
+            default:
+                manager = WebDriverManager.chromedriver();
+        }
+
+        manager.setup();
+        String path = manager.getDownloadedDriverPath();
+        writeManifestEntry(browser, path);
+        return path;
+    }
+
+    private static String getSystemProperty(String browser) {
+        switch (browser) {
+            case "firefox":
+                return "webdriver.gecko.driver";
+            case "edge":
+                return "webdriver.edge.driver";
+            default:
+                return "webdriver.chrome.driver";
+        }
+    }
+
+    /**
+     * Checks whether a browser's driver binary is downloaded and registered by this class. Safari ships its
+     * own driver with the OS.
+     */
+    private static boolean usesDownloadedDriver(String browser) {
+        return "chrome".equals(browser) || "firefox".equals(browser) || "edge".equals(browser);
+    }
+
+    private static boolean isOffline() {
+        return config.getBooleanProperty("driver.offline", false);
+    }
+
+    private static File getManifestFile() {
+        return new File(config.getProperty("driver.manifest.file", "./drivers/driver-manifest.properties"));
+    }
+
+    private static Properties readManifest() {
+        Properties manifest = new Properties();
+        File manifestFile = getManifestFile();
+        if (manifestFile.isFile()) {
+            try (InputStream in = new FileInputStream(manifestFile)) {
+                manifest.load(in);
+            } catch (IOException e) {
+                LogUtil.warn("Failed to read driver manifest: " + manifestFile.getPath(), e);
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Adds a resolved driver to the manifest. The manifest is replaced atomically so that a
+     * concurrently starting run never reads a half-written file.
+     */
+    private static void writeManifestEntry(String browser, String path) {
+        File manifestFile = getManifestFile();
+        Properties manifest = readManifest();
+        manifest.setProperty(browser + ".path", path);
+        manifest.setProperty(browser + ".resolvedAt", new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date()));
+
+        try {
+            File parent = manifestFile.getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.exists()) {
+                parent.mkdirs();
+            }
+
+            File tempFile = new File(manifestFile.getPath() + ".tmp");
+            try (OutputStream out = new FileOutputStream(tempFile)) {
+                manifest.store(out, "Resolved WebDriver binaries");
+            }
+            Files.move(tempFile.toPath(), manifestFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LogUtil.warn("Failed to write driver manifest: " + manifestFile.getPath(), e);
+        }
+    }
+}
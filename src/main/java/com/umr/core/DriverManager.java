@@ -1,11 +1,18 @@
 package com.umr.core;
 
 import com.umr.core.config.ConfigLoader;
+import com.umr.core.devtools.DevToolsSupport;
+import com.umr.core.devtools.NetworkIdleMonitor;
+import com.umr.core.devtools.NetworkRecorder;
+import com.umr.core.devtools.RequestBlocker;
+import com.umr.core.factory.PageFactory;
 import com.umr.utils.LogUtil;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
@@ -13,6 +20,9 @@ import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.safari.SafariDriver;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages WebDriver instances for browser automation.
@@ -27,6 +37,9 @@ public class DriverManager {
     // ADD THIS: Flag to track if the driver has been quit
     private static final ThreadLocal<Boolean> driverQuit = new ThreadLocal<>();
 
+    // Live drivers by owning thread, so the watchdog can quit the session of a hung worker
+    private static final Map<Thread, WebDriver> driversByThread = new ConcurrentHashMap<>();
+
     /**
      * Private constructor to prevent instantiation.
      */
@@ -78,31 +91,37 @@ public class DriverManager {
         boolean headless = config.getBooleanProperty("headless", false);
         boolean maximize = config.getBooleanProperty("maximize", true);
 
-        LogUtil.info("Initializing WebDriver for browser: " + browser + " (headless: " + headless + ")");
+        LogUtil.info("Initializing WebDriver for browser: " + browser + " (headless: " + headless +
+                ", profile: " + getLaunchProfile() + ")");
 
         WebDriver driver;
+        long startTime = System.currentTimeMillis();
 
         try {
-            switch (browser) {
-                case "chrome":
-                    driver = initializeChromeDriver(headless);
-                    break;
-                case "firefox":
-                    driver = initializeFirefoxDriver(headless);
-                    break;
-                case "edge":
-                    driver = initializeEdgeDriver(headless);
-                    break;
-                case "safari":
-                    driver = initializeSafariDriver();
-                    break;
-                default:
-                    LogUtil.warn("Unsupported browser: " + browser + ". Defaulting to Chrome.");
-                    driver = initializeChromeDriver(headless);
+            try {
+                driver = createDriver(browser, headless);
+            } catch (SessionNotCreatedException e) {
+                // Usually a cached driver that no longer matches an updated browser
+                if (!DriverBinaryResolver.refresh(browser)) {
+                    throw e;
+                }
+                LogUtil.warn("Session not created with cached driver. Retrying with a freshly resolved driver.");
+                driver = createDriver(browser, headless);
             }
 
             configureDriver(driver, maximize);
+            BrowserMetrics.recordStartup(System.currentTimeMillis() - startTime);
+            if (config.getBooleanProperty("network.idle.enabled", true) && DevToolsSupport.isSupported(driver)) {
+                NetworkIdleMonitor.attach(driver);
+            }
+            if (RequestBlocker.isEnabled()) {
+                RequestBlocker.attach(driver);
+            }
+            if (NetworkRecorder.isEnabled()) {
+                NetworkRecorder.attach(driver);
+            }
             driverThreadLocal.set(driver);
+            driversByThread.put(Thread.currentThread(), driver);
             // ADD THIS: Mark driver as not quit
             driverQuit.set(false);
             LogUtil.info("WebDriver initialized successfully");
@@ -113,6 +132,29 @@ public class DriverManager {
         }
     }
 
+    /**
+     * Creates a WebDriver instance for the given browser.
+     *
+     * @param browser The browser name
+     * @param headless Whether to run in headless mode
+     * @return The WebDriver instance
+     */
+    private static WebDriver createDriver(String browser, boolean headless) {
+        switch (browser) {
+            case "chrome":
+                return initializeChromeDriver(headless);
+            case "firefox":
+                return initializeFirefoxDriver(headless);
+            case "edge":
+                return initializeEdgeDriver(headless);
+            case "safari":
+                return initializeSafariDriver();
+            default:
+                LogUtil.warn("Unsupported browser: " + browser + ". Defaulting to Chrome.");
+                return initializeChromeDriver(headless);
+        }
+    }
+
     /**
      * Initializes a Chrome WebDriver instance.
      *
@@ -120,7 +162,7 @@ public class DriverManager {
      * @return The Chrome WebDriver instance
      */
     private static WebDriver initializeChromeDriver(boolean headless) {
-        WebDriverManager.chromedriver().setup();
+        DriverBinaryResolver.resolve("chrome");
         ChromeOptions options = new ChromeOptions();
         if (headless) {
             options.addArguments("--headless=new");
@@ -131,6 +173,7 @@ public class DriverManager {
         options.addArguments("--disable-gpu");
         options.addArguments("--window-size=1920,1080");
         options.setAcceptInsecureCerts(true);
+        applyLaunchProfile(options);
         return new ChromeDriver(options);
     }
 
@@ -141,7 +184,7 @@ public class DriverManager {
      * @return The Firefox WebDriver instance
      */
     private static WebDriver initializeFirefoxDriver(boolean headless) {
-        WebDriverManager.firefoxdriver().setup();
+        DriverBinaryResolver.resolve("firefox");
         FirefoxOptions options = new FirefoxOptions();
         if (headless) {
             options.addArguments("-headless");
@@ -156,14 +199,60 @@ public class DriverManager {
      * @return The Edge WebDriver instance
      */
     private static WebDriver initializeEdgeDriver(boolean headless) {
-        WebDriverManager.edgedriver().setup();
+        DriverBinaryResolver.resolve("edge");
         EdgeOptions options = new EdgeOptions();
         if (headless) {
             options.addArguments("--headless=new");
         }
+        applyLaunchProfile(options);
         return new EdgeDriver(options);
     }
 
+    /**
+     * Gets the configured browser launch profile.
+     *
+     * @return "fast" or "evidence" (the default)
+     */
+    public static String getLaunchProfile() {
+        return config.getProperty("browser.profile", "evidence").toLowerCase();
+    }
+
+    /**
+     * Applies the launch profile to Chrome or Edge options.
+     * "evidence" keeps the default browser behaviour. "fast" uses eager page loads and switches off
+     * background work that does not matter for a test session.
+     *
+     * @param options The Chromium-based browser options
+     */
+    private static void applyLaunchProfile(ChromiumOptions<?> options) {
+        if (!"fast".equals(getLaunchProfile())) {
+            return;
+        }
+
+        // Return from navigation at DOMContentLoaded instead of waiting for every subresource
+        options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+
+        options.addArguments("--disable-background-networking");
+        options.addArguments("--disable-extensions");
+        options.addArguments("--disable-sync");
+        options.addArguments("--disable-component-update");
+        options.addArguments("--disable-default-apps");
+        options.addArguments("--no-first-run");
+        options.addArguments("--disable-features=Translate,OptimizationHints,MediaRouter");
+
+        // Keep the renderer at full speed even when the window is hidden or occluded
+        options.addArguments("--disable-renderer-backgrounding");
+        options.addArguments("--disable-background-timer-throttling");
+        options.addArguments("--disable-backgrounding-occluded-windows");
+
+        Map<String, Object> prefs = new HashMap<>();
+        prefs.put("translate.enabled", false);
+        if (config.getBooleanProperty("browser.fast.disable.images", false)) {
+            prefs.put("profile.managed_default_content_settings.images", 2);
+        }
+        options.setExperimentalOption("prefs", prefs);
+    }
+
     /**
      * Initializes a Safari WebDriver instance.
      *
@@ -182,7 +271,7 @@ public class DriverManager {
      */
     private static void configureDriver(WebDriver driver, boolean maximize) {
         // Configure timeout settings from properties
-        int implicitWait = config.getIntProperty("implicit.wait", 10);
+        int implicitWait = getImplicitWaitSeconds();
         int pageLoadTimeout = config.getIntProperty("page.load.timeout", 60);
 
         // Apply timeout settings
@@ -195,12 +284,37 @@ public class DriverManager {
         }
     }
 
+    /**
+     * Checks whether the framework runs in explicit-wait-only mode (wait.mode=explicit).
+     * In that mode the implicit wait is zero, so element lookups return immediately and all waiting
+     * is done by explicit, bounded waits.
+     *
+     * @return True in explicit-wait-only mode
+     */
+    public static boolean isExplicitWaitMode() {
+        return "explicit".equalsIgnoreCase(config.getProperty("wait.mode", "implicit"));
+    }
+
+    /**
+     * Gets the implicit wait applied to new drivers.
+     *
+     * @return The implicit wait in seconds; zero in explicit-wait-only mode
+     */
+    public static int getImplicitWaitSeconds() {
+        return isExplicitWaitMode() ? 0 : config.getIntProperty("implicit.wait", 10);
+    }
+
     /**
      * Quits the WebDriver instance for the current thread and removes it from ThreadLocal storage.
      */
     public static void quitDriver() {
         WebDriver driver = driverThreadLocal.get();
         if (driver != null) {
+            driversByThread.remove(Thread.currentThread(), driver);
+            PageFactory.release(driver);
+            NetworkIdleMonitor.release(driver);
+            NetworkRecorder.release(driver);
+            DevToolsSupport.release(driver);
             LogUtil.info("Quitting WebDriver instance");
             try {
                 driver.quit();
@@ -216,6 +330,32 @@ public class DriverManager {
         }
     }
 
+    /**
+     * Quits the WebDriver session owned by another thread, e.g. a worker stuck in a hung WebDriver call.
+     * Quitting the session makes the blocked call fail, which returns control to the worker.
+     * The owning thread still has to call resetDriver() to clear its ThreadLocal state.
+     *
+     * @param owner The thread that created the driver
+     */
+    public static void forceQuitDriver(Thread owner) {
+        WebDriver driver = driversByThread.remove(owner);
+        if (driver == null) {
+            LogUtil.warn("No WebDriver session to force-quit for thread: " + owner.getName());
+            return;
+        }
+
+        LogUtil.warn("Force-quitting WebDriver session of thread: " + owner.getName());
+        PageFactory.release(driver);
+        NetworkIdleMonitor.release(driver);
+        NetworkRecorder.release(driver);
+        DevToolsSupport.release(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            LogUtil.error("Error force-quitting WebDriver", e);
+        }
+    }
+
     /**
      * Reset driver state completely by removing from ThreadLocal
      * This is useful when you want to completely clean up resources
@@ -1,8 +1,13 @@
 package com.umr.core;
 
 import com.umr.core.annotation.Keyword;
+import com.umr.core.config.ConfigLoader;
+import com.umr.core.jfr.FrameworkRecording;
+import com.umr.core.jfr.KeywordEvent;
+import com.umr.core.metrics.RunMetrics;
 import com.umr.utils.LogUtil;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
@@ -12,6 +17,8 @@ import java.util.Map;
  * Uses reflection to find and invoke methods with the @Keyword annotation.
  */
 public class KeywordExecutor {
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+
     private final Map<String, Method> keywordMap = new HashMap<>();
     private final Object keywordInstance;
 
@@ -63,14 +70,33 @@ public class KeywordExecutor {
             return false;
         }
 
+        Method method = keywordMap.get(keywordUpper);
+        Keyword annotation = method.getAnnotation(Keyword.class);
+        int timeoutSeconds = annotation.timeoutSeconds() > 0
+                ? annotation.timeoutSeconds()
+                : config.getIntProperty("keyword.timeout.default", 0);
+        Watchdog.Ticket ticket = Watchdog.arm(context.getTestId() + "_" + keywordUpper, timeoutSeconds);
+        FrameworkRecording.setKeyword(keywordUpper);
+        KeywordEvent event = KeywordEvent.start();
+        boolean success = false;
+        long startTime = System.currentTimeMillis();
+
         try {
-            Method method = keywordMap.get(keywordUpper);
-            boolean isMandatory = method.getAnnotation(Keyword.class).mandatory();
+            boolean isMandatory = annotation.mandatory();
+
+            Object result;
+            try {
+                result = method.invoke(keywordInstance, context);
+            } finally {
+                ticket.disarm();
+            }
 
-            Object result = method.invoke(keywordInstance, context);
+            if (ticket.isExpired()) {
+                return failTimedOutKeyword(keywordUpper, ticket, context);
+            }
 
             if (result instanceof Boolean) {
-                boolean success = (Boolean) result;
+                success = (Boolean) result;
 
                 if (!success && isMandatory) {
                     LogUtil.error("Mandatory keyword failed: " + keywordUpper);
@@ -82,15 +108,38 @@ public class KeywordExecutor {
                 return success;
             } else {
                 LogUtil.warn("Keyword method did not return a boolean: " + keywordUpper);
+                success = true;
                 return true; // Assume success if the method doesn't return a boolean
             }
         } catch (Exception e) {
-            LogUtil.error("Error executing keyword: " + keywordUpper, e);
-            context.setTestFailed("Error executing keyword: " + keywordUpper + " - " + e.getMessage());
+            if (ticket.isExpired()) {
+                return failTimedOutKeyword(keywordUpper, ticket, context);
+            }
+
+            // Report the keyword's own exception rather than the reflection wrapper, so the reason can be classified
+            Throwable cause = e instanceof InvocationTargetException && e.getCause() != null ? e.getCause() : e;
+            LogUtil.error("Error executing keyword: " + keywordUpper, cause);
+            context.setTestFailed("Error executing keyword: " + keywordUpper + " - " +
+                    cause.getClass().getSimpleName() + ": " + cause.getMessage());
             return false;
+        } finally {
+            event.finish(context.getTestId(), keywordUpper, success);
+            RunMetrics.keywordExecuted(keywordUpper, System.currentTimeMillis() - startTime, success);
+            FrameworkRecording.setKeyword(null);
         }
     }
 
+    private boolean failTimedOutKeyword(String keyword, Watchdog.Ticket ticket, TestContext context) {
+        String reason = "Keyword " + Watchdog.BUDGET_EXCEEDED + " of " + ticket.getTimeoutSeconds() + "s: " + keyword;
+        if (ticket.getThreadDumpPath() != null) {
+            reason += " (thread dump: " + ticket.getThreadDumpPath() + ")";
+        }
+
+        LogUtil.error(reason);
+        context.setTestFailed(reason);
+        return false;
+    }
+
     /**
      * Checks if the executor has a keyword with the given name.
      *
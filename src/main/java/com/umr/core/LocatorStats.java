@@ -0,0 +1,143 @@
+package com.umr.core;
+
+import com.umr.reporting.HistoryStore;
+import com.umr.utils.LogUtil;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps hit rates and latencies of locator strategies across runs and orders strategies by them.
+ * History is read from the "locator-stats" history category on first use; the counts of the current run
+ * are written back as one record per locator strategy when the run finishes.
+ */
+public class LocatorStats {
+    private static final String CATEGORY = "locator-stats";
+
+    // locator -> strategy -> counts over all runs, including the current one
+    private static Map<String, Map<String, Counts>> totals;
+    // locator -> strategy -> counts of the current run only, in first-seen order
+    private static final Map<String, Map<String, Counts>> runCounts = new LinkedHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private LocatorStats() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Orders the strategies of a locator: strategies that have succeeded before come first, cheapest expected
+     * cost (average time divided by hit rate) first; then strategies without history, in declared order;
+     * then strategies that have only ever failed.
+     *
+     * @param locator The locator name
+     * @param declared The strategy names in declared order
+     * @return The strategy names in the order to try them
+     */
+    public static synchronized List<String> order(String locator, List<String> declared) {
+        Map<String, Counts> strategies = getTotals().getOrDefault(locator, new HashMap<>());
+
+        List<String> ordered = new ArrayList<>(declared);
+        ordered.sort(Comparator.comparingInt((String strategy) -> rank(strategies.get(strategy)))
+                .thenComparingDouble(strategy -> expectedCost(strategies.get(strategy))));
+        return ordered;
+    }
+
+    /**
+     * Records one attempt of a locator strategy.
+     *
+     * @param locator The locator name
+     * @param strategy The strategy name
+     * @param hit Whether the strategy found what it was looking for
+     * @param millis Time the attempt took
+     */
+    public static synchronized void record(String locator, String strategy, boolean hit, long millis) {
+        getTotals().computeIfAbsent(locator, key -> new HashMap<>())
+                .computeIfAbsent(strategy, key -> new Counts()).add(hit, millis);
+        runCounts.computeIfAbsent(locator, key -> new LinkedHashMap<>())
+                .computeIfAbsent(strategy, key -> new Counts()).add(hit, millis);
+    }
+
+    /**
+     * Writes the counts of the current run to the locator-stats history and clears them.
+     *
+     * @param runId The run identifier
+     */
+    public static synchronized void flush(String runId) {
+        for (Map.Entry<String, Map<String, Counts>> locator : runCounts.entrySet()) {
+            for (Map.Entry<String, Counts> strategy : locator.getValue().entrySet()) {
+                Counts counts = strategy.getValue();
+                LinkedHashMap<String, String> record = new LinkedHashMap<>();
+                record.put("RunID", runId);
+                record.put("Locator", locator.getKey());
+                record.put("Strategy", strategy.getKey());
+                record.put("Attempts", String.valueOf(counts.attempts));
+                record.put("Hits", String.valueOf(counts.hits));
+                record.put("HitMillis", String.valueOf(counts.hitMillis));
+                record.put("MissMillis", String.valueOf(counts.missMillis));
+                HistoryStore.append(CATEGORY, record);
+            }
+        }
+        runCounts.clear();
+    }
+
+    private static int rank(Counts counts) {
+        if (counts == null || counts.attempts == 0) {
+            return 1;
+        }
+        return counts.hits > 0 ? 0 : 2;
+    }
+
+    private static double expectedCost(Counts counts) {
+        if (counts == null || counts.hits == 0) {
+            return 0;
+        }
+        double hitRate = (double) counts.hits / counts.attempts;
+        double averageMillis = (double) (counts.hitMillis + counts.missMillis) / counts.attempts;
+        return averageMillis / hitRate;
+    }
+
+    private static Map<String, Map<String, Counts>> getTotals() {
+        if (totals == null) {
+            totals = new HashMap<>();
+            for (Map<String, String> record : HistoryStore.read(CATEGORY)) {
+                try {
+                    Counts counts = totals.computeIfAbsent(record.get("Locator"), key -> new HashMap<>())
+                            .computeIfAbsent(record.get("Strategy"), key -> new Counts());
+                    counts.attempts += Long.parseLong(record.get("Attempts"));
+                    counts.hits += Long.parseLong(record.get("Hits"));
+                    counts.hitMillis += Long.parseLong(record.get("HitMillis"));
+                    counts.missMillis += Long.parseLong(record.get("MissMillis"));
+                } catch (NumberFormatException e) {
+                    LogUtil.warn("Skipping malformed locator-stats record: " + record);
+                }
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Attempt counts of one locator strategy.
+     */
+    private static class Counts {
+        private long attempts;
+        private long hits;
+        private long hitMillis;
+        private long missMillis;
+
+        private void add(boolean hit, long millis) {
+            attempts++;
+            if (hit) {
+                hits++;
+                hitMillis += millis;
+            } else {
+                missMillis += millis;
+            }
+        }
+    }
+}
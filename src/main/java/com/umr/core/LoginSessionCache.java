@@ -0,0 +1,254 @@
+package com.umr.core;
+
+import com.umr.core.config.ConfigLoader;
+import com.umr.utils.LogUtil;
+import com.umr.utils.WebElementUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the authenticated state of a successful login (cookies, localStorage and sessionStorage)
+ * so that new browser sessions can skip the SSO login flow.
+ * Snapshots are held in memory only and never written to disk. They are shared per run or per
+ * worker thread (login.snapshot.scope = run | worker | off) and expire after login.snapshot.ttl.minutes.
+ * Cookies are captured for the application host only; a snapshot that the application rejects
+ * is invalidated and the caller falls back to a real login.
+ */
+public class LoginSessionCache {
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+
+    private static final String SCOPE = config.getProperty("login.snapshot.scope", "run").toLowerCase();
+    private static final long TTL_MILLIS = config.getIntProperty("login.snapshot.ttl.minutes", 30) * 60_000L;
+
+    private static volatile Snapshot runSnapshot;
+    private static final ThreadLocal<Snapshot> workerSnapshot = new ThreadLocal<>();
+
+    private static final String READ_STORAGE_SCRIPT =
+            "var read = function(storage) {" +
+            "  var entries = {};" +
+            "  for (var i = 0; i < storage.length; i++) {" +
+            "    var key = storage.key(i);" +
+            "    entries[key] = storage.getItem(key);" +
+            "  }" +
+            "  return entries;" +
+            "};" +
+            "return [read(window.localStorage), read(window.sessionStorage)];";
+
+    private static final String WRITE_STORAGE_SCRIPT =
+            "var write = function(storage, entries) {" +
+            "  for (var key in entries) { storage.setItem(key, entries[key]); }" +
+            "};" +
+            "write(window.localStorage, arguments[0]);" +
+            "write(window.sessionStorage, arguments[1]);";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private LoginSessionCache() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Checks whether session snapshots are enabled.
+     *
+     * @return True unless login.snapshot.scope is off
+     */
+    public static boolean isEnabled() {
+        return !"off".equals(SCOPE);
+    }
+
+    /**
+     * Captures the authenticated state of the current page. Call once the login has completed.
+     *
+     * @param driver The logged-in WebDriver
+     */
+    @SuppressWarnings("unchecked")
+    public static void capture(WebDriver driver) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        try {
+            Set<Cookie> cookies = driver.manage().getCookies();
+            List<Object> storage = (List<Object>) ((JavascriptExecutor) driver)
+                    .executeScript(READ_STORAGE_SCRIPT);
+
+            Snapshot snapshot = new Snapshot(cookies, toStringMap(storage.get(0)), toStringMap(storage.get(1)),
+                    driver.getCurrentUrl(), System.currentTimeMillis());
+            store(snapshot);
+
+            LogUtil.info("Captured login session snapshot (" + cookies.size() + " cookie(s), scope: " + SCOPE + ")");
+        } catch (Exception e) {
+            LogUtil.warn("Failed to capture login session snapshot: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Tries to restore a captured login into the given session.
+     * Navigates to the login URL to be on the application host, injects the snapshot and opens the page that
+     * was shown after login. If the login button shows up again once the application is stable and the URL has
+     * settled, the snapshot is invalidated.
+     *
+     * @param driver A fresh WebDriver session
+     * @param loginUrl The application login URL
+     * @param loginButton Locator of the login button, whose absence confirms the restored session
+     * @return True if the session was restored and is authenticated, false if a real login is needed
+     */
+    public static boolean restore(WebDriver driver, String loginUrl, By loginButton) {
+        Snapshot snapshot = current();
+        if (snapshot == null) {
+            return false;
+        }
+
+        try {
+            long ageSeconds = (System.currentTimeMillis() - snapshot.capturedAt) / 1000;
+            LogUtil.info("Restoring login session snapshot captured " + ageSeconds + "s ago");
+
+            BrowserMetrics.timedGet(driver, loginUrl);
+            driver.manage().deleteAllCookies();
+            Date now = new Date();
+            for (Cookie cookie : snapshot.cookies) {
+                if (cookie.getExpiry() != null && cookie.getExpiry().before(now)) {
+                    continue;
+                }
+                try {
+                    driver.manage().addCookie(cookie);
+                } catch (Exception e) {
+                    LogUtil.debug("Skipping cookie that could not be restored: " + cookie.getName());
+                }
+            }
+            ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE_SCRIPT,
+                    snapshot.localStorage, snapshot.sessionStorage);
+
+            BrowserMetrics.timedGet(driver, snapshot.landingUrl);
+            new WebDriverWait(driver, Duration.ofSeconds(20)).until(webDriver -> ((JavascriptExecutor) webDriver)
+                    .executeScript("return document.readyState").equals("complete"));
+
+            // An expired session is redirected to the login route only after the application has bootstrapped
+            WebElementUtils elementUtils = new WebElementUtils(driver);
+            elementUtils.waitForAppStable();
+            waitForUrlToSettle(driver);
+
+            if (elementUtils.isPresentNow(loginButton) || driver.getCurrentUrl().contains("LoginPage")) {
+                LogUtil.warn("Login session snapshot was rejected by the application. Falling back to a real login.");
+                discard(snapshot);
+                return false;
+            }
+
+            LogUtil.info("Login session restored from snapshot: " + driver.getCurrentUrl());
+            return true;
+        } catch (Exception e) {
+            LogUtil.warn("Failed to restore login session snapshot: " + e.getMessage() + ". Falling back to a real login.");
+            discard(snapshot);
+            return false;
+        }
+    }
+
+    /**
+     * Waits until the URL has not changed for login.snapshot.settle.millis, so that a client-side redirect after
+     * the page load has happened before the restored session is checked.
+     */
+    private static void waitForUrlToSettle(WebDriver driver) {
+        long settleMillis = config.getIntProperty("login.snapshot.settle.millis", 1000);
+        String[] lastUrl = {driver.getCurrentUrl()};
+        long[] changedAt = {System.currentTimeMillis()};
+        new WebDriverWait(driver, Duration.ofSeconds(20))
+                .pollingEvery(Duration.ofMillis(200))
+                .until(webDriver -> {
+                    String url = webDriver.getCurrentUrl();
+                    long now = System.currentTimeMillis();
+                    if (!url.equals(lastUrl[0])) {
+                        lastUrl[0] = url;
+                        changedAt[0] = now;
+                    }
+                    return now - changedAt[0] >= settleMillis;
+                });
+    }
+
+    /**
+     * Discards the snapshot visible to the current thread.
+     */
+    public static void invalidate() {
+        if ("worker".equals(SCOPE)) {
+            workerSnapshot.remove();
+        } else {
+            runSnapshot = null;
+        }
+    }
+
+    /**
+     * Discards a snapshot unless another worker has already replaced it with a newer one.
+     */
+    private static synchronized void discard(Snapshot snapshot) {
+        if ("worker".equals(SCOPE)) {
+            if (workerSnapshot.get() == snapshot) {
+                workerSnapshot.remove();
+            }
+        } else if (runSnapshot == snapshot) {
+            runSnapshot = null;
+        }
+    }
+
+    private static Snapshot current() {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        Snapshot snapshot = "worker".equals(SCOPE) ? workerSnapshot.get() : runSnapshot;
+        if (snapshot != null && System.currentTimeMillis() - snapshot.capturedAt > TTL_MILLIS) {
+            LogUtil.info("Login session snapshot expired");
+            discard(snapshot);
+            return null;
+        }
+        return snapshot;
+    }
+
+    private static void store(Snapshot snapshot) {
+        if ("worker".equals(SCOPE)) {
+            workerSnapshot.set(snapshot);
+        } else {
+            runSnapshot = snapshot;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> toStringMap(Object value) {
+        Map<String, String> result = new HashMap<>();
+        if (value instanceof Map) {
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                result.put(entry.getKey(), entry.getValue() != null ? entry.getValue().toString() : null);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Authenticated browser state captured after a login.
+     */
+    private static class Snapshot {
+        private final Set<Cookie> cookies;
+        private final Map<String, String> localStorage;
+        private final Map<String, String> sessionStorage;
+        private final String landingUrl;
+        private final long capturedAt;
+
+        private Snapshot(Set<Cookie> cookies, Map<String, String> localStorage, Map<String, String> sessionStorage,
+                         String landingUrl, long capturedAt) {
+            this.cookies = cookies;
+            this.localStorage = localStorage;
+            this.sessionStorage = sessionStorage;
+            this.landingUrl = landingUrl;
+            this.capturedAt = capturedAt;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.umr.core;
+
+import com.umr.reporting.ReportManager;
+import com.umr.utils.LogUtil;
+import com.umr.utils.ScriptRegistry;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the Navigation Timing and Paint Timing metrics (TTFB, DOMContentLoaded, load, first and largest
+ * contentful paint) of the pages a test opens, so SAT environment performance can be followed over time.
+ * Keywords capture the metrics after a navigation or a switch to a new tab; the runner writes the page timings
+ * of each test to the page-metrics history.
+ */
+public class PageMetrics {
+    private static final ThreadLocal<List<Timing>> timingsThreadLocal = ThreadLocal.withInitial(ArrayList::new);
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private PageMetrics() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Clears the page timings of the current thread. Called when a test starts.
+     */
+    public static void reset() {
+        timingsThreadLocal.set(new ArrayList<>());
+    }
+
+    /**
+     * Reads the timings of the current page in one script call, adds them to the keyword's report entry and
+     * keeps them for the test's history record. Never fails the keyword.
+     *
+     * @param context The test context
+     * @param page A short name of the page, e.g. "Person search"
+     * @return The page timings, or null if they could not be read
+     */
+    @SuppressWarnings("unchecked")
+    public static Timing capture(TestContext context, String page) {
+        WebDriver driver = context.getDriver();
+        Timing timing;
+        try {
+            Map<String, Object> values = (Map<String, Object>) ScriptRegistry.execute(driver, "page-metrics");
+            timing = new Timing(page, String.valueOf(values.get("url")), number(values.get("ttfb")),
+                    number(values.get("domContentLoaded")), number(values.get("load")), number(values.get("fcp")),
+                    number(values.get("lcp")), number(values.get("transferSize")));
+        } catch (WebDriverException | ClassCastException e) {
+            LogUtil.debug("Could not read page timings of " + page + ": " + e.getMessage());
+            return null;
+        }
+
+        timingsThreadLocal.get().add(timing);
+        LogUtil.info("Page timings: " + timing);
+        ReportManager.logInfo(context.getTestId(), context.getTestName(), "Page timings: " + timing);
+        return timing;
+    }
+
+    /**
+     * Gets the page timings captured by the current thread.
+     *
+     * @return The timings captured since the last reset, in capture order
+     */
+    public static List<Timing> get() {
+        return Collections.unmodifiableList(timingsThreadLocal.get());
+    }
+
+    private static long number(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : -1;
+    }
+
+    /**
+     * Timings of one page load. Times are milliseconds from navigation start; -1 if the browser did not
+     * report the metric (e.g. load still running, or nothing painted yet).
+     */
+    public static class Timing {
+        private final String page;
+        private final String url;
+        private final long ttfb;
+        private final long domContentLoaded;
+        private final long load;
+        private final long firstContentfulPaint;
+        private final long largestContentfulPaint;
+        private final long transferSize;
+
+        private Timing(String page, String url, long ttfb, long domContentLoaded, long load,
+                       long firstContentfulPaint, long largestContentfulPaint, long transferSize) {
+            this.page = page;
+            this.url = url;
+            this.ttfb = ttfb;
+            this.domContentLoaded = domContentLoaded;
+            this.load = load;
+            this.firstContentfulPaint = firstContentfulPaint;
+            this.largestContentfulPaint = largestContentfulPaint;
+            this.transferSize = transferSize;
+        }
+
+        public String getPage() {
+            return page;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public long getTtfb() {
+            return ttfb;
+        }
+
+        public long getDomContentLoaded() {
+            return domContentLoaded;
+        }
+
+        public long getLoad() {
+            return load;
+        }
+
+        public long getFirstContentfulPaint() {
+            return firstContentfulPaint;
+        }
+
+        public long getLargestContentfulPaint() {
+            return largestContentfulPaint;
+        }
+
+        /**
+         * Gets the transferred size of the document itself.
+         *
+         * @return Bytes, or -1 if not reported
+         */
+        public long getTransferSize() {
+            return transferSize;
+        }
+
+        @Override
+        public String toString() {
+            return page + " - TTFB " + ttfb + " ms, DOMContentLoaded " + domContentLoaded + " ms, load " + load +
+                    " ms, FCP " + firstContentfulPaint + " ms, LCP " + largestContentfulPaint + " ms (" + url + ")";
+        }
+    }
+}
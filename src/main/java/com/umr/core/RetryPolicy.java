@@ -0,0 +1,92 @@
+package com.umr.core;
+
+import com.umr.core.config.ConfigLoader;
+import com.umr.utils.LogUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Decides whether a failed test attempt is retried.
+ * Only failures whose reason matches one of the configured transient patterns are retried,
+ * up to retry.max.attempts attempts in total. Retries always run on a fresh browser session.
+ * Keywords and tests stopped by the {@link Watchdog} are never retried, whatever the patterns say.
+ */
+public class RetryPolicy {
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+
+    // Failure reasons that usually clear up on a fresh session (stale DOM, slow SAT responses, lost sessions)
+    private static final String DEFAULT_TRANSIENT_PATTERNS =
+            "stale element,StaleElementReference,timed out,TimeoutException,no such session,invalid session id," +
+            "chrome not reachable,disconnected,element click intercepted,net::ERR_,502 Bad Gateway," +
+            "503 Service Unavailable,504 Gateway Timeout";
+
+    private static final int MAX_ATTEMPTS = Math.max(1, config.getIntProperty("retry.max.attempts", 1));
+    private static final List<Pattern> TRANSIENT_PATTERNS =
+            compilePatterns(config.getProperty("retry.transient.patterns", DEFAULT_TRANSIENT_PATTERNS));
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private RetryPolicy() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Gets the maximum number of attempts per test, including the first one.
+     *
+     * @return The maximum number of attempts
+     */
+    public static int getMaxAttempts() {
+        return MAX_ATTEMPTS;
+    }
+
+    /**
+     * Checks whether a failure reason is classified as transient.
+     *
+     * @param failureReason The failure reason of the attempt
+     * @return True if the reason matches a transient pattern and is not a watchdog time limit, false otherwise
+     */
+    public static boolean isTransient(String failureReason) {
+        if (failureReason == null || failureReason.isEmpty() || failureReason.contains(Watchdog.BUDGET_EXCEEDED)) {
+            return false;
+        }
+
+        for (Pattern pattern : TRANSIENT_PATTERNS) {
+            if (pattern.matcher(failureReason).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a test should be attempted again.
+     *
+     * @param attempt The attempt that just finished (1-based)
+     * @param status The status of that attempt
+     * @param failureReason The failure reason of that attempt
+     * @return True if another attempt should be queued, false otherwise
+     */
+    public static boolean shouldRetry(int attempt, String status, String failureReason) {
+        return "FAILED".equalsIgnoreCase(status) && attempt < MAX_ATTEMPTS && isTransient(failureReason);
+    }
+
+    private static List<Pattern> compilePatterns(String patternList) {
+        List<Pattern> patterns = new ArrayList<>();
+        for (String pattern : patternList.split(",")) {
+            if (pattern.trim().isEmpty()) {
+                continue;
+            }
+
+            try {
+                patterns.add(Pattern.compile(pattern.trim(), Pattern.CASE_INSENSITIVE));
+            } catch (PatternSyntaxException e) {
+                LogUtil.warn("Ignoring invalid retry.transient.patterns entry: " + pattern.trim());
+            }
+        }
+        return patterns;
+    }
+}
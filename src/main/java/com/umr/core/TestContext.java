@@ -181,6 +181,7 @@ public class TestContext {
         this.testPassed = false;
         this.failureReason = reason;
         LogUtil.error("Test failed: " + reason);
+        LogUtil.dumpTestBuffer("Test failed: " + reason);
     }
 
     /**
@@ -0,0 +1,221 @@
+package com.umr.core;
+
+import com.umr.core.config.ConfigLoader;
+import com.umr.utils.LogUtil;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Enforces keyword and test time limits on worker threads.
+ * When an armed ticket expires, the watchdog writes a thread dump, force-quits the worker's WebDriver session
+ * (which unblocks a hung WebDriver call) and interrupts the worker, so the worker can fail the test and move on.
+ */
+public class Watchdog {
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cbp-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final int ARMED = 0;
+    private static final int DISARMED = 1;
+    private static final int EXPIRED = 2;
+
+    /**
+     * Part of the failure reason of every keyword or test stopped by the watchdog. Such failures are never
+     * retried: a hang would usually hold the worker for the full time limit again.
+     */
+    public static final String BUDGET_EXCEEDED = "exceeded its time budget";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Watchdog() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Arms a watchdog for the current thread.
+     *
+     * @param label What is being guarded, e.g. the keyword name; used in logs and the dump file name
+     * @param timeoutSeconds Time limit in seconds; zero or less returns a ticket that never expires
+     * @return The ticket, which must be disarmed when the guarded work is done
+     */
+    public static Ticket arm(String label, long timeoutSeconds) {
+        Ticket ticket = new Ticket(label, timeoutSeconds, Thread.currentThread());
+        if (timeoutSeconds > 0) {
+            ticket.future = scheduler.schedule(ticket::expire, timeoutSeconds, TimeUnit.SECONDS);
+        }
+        return ticket;
+    }
+
+    /**
+     * Writes a dump of all threads, including locks, to the watchdog directory.
+     *
+     * @param label Label used in the file name
+     * @return The path of the dump file, or null if it could not be written
+     */
+    public static String writeThreadDump(String label) {
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        File dumpDir = new File(config.getProperty("watchdog.dump.dir", config.getReportsDirectory() + "/watchdog"));
+        File dumpFile = new File(dumpDir, "ThreadDump_" + label.replaceAll("[^a-zA-Z0-9.-]", "_") + "_" + timestamp + ".txt");
+
+        if (!dumpDir.exists()) {
+            dumpDir.mkdirs();
+        }
+
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(dumpFile), StandardCharsets.UTF_8)) {
+            for (ThreadInfo info : ManagementFactory.getThreadMXBean().dumpAllThreads(true, true)) {
+                writer.write(formatThreadInfo(info));
+            }
+            return dumpFile.getPath();
+        } catch (IOException e) {
+            LogUtil.error("Failed to write thread dump: " + dumpFile.getPath(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Formats a thread with its full stack; ThreadInfo.toString() truncates stacks to eight frames.
+     */
+    private static String formatThreadInfo(ThreadInfo info) {
+        StringBuilder dump = new StringBuilder();
+        dump.append('"').append(info.getThreadName()).append("\" id=").append(info.getThreadId())
+                .append(' ').append(info.getThreadState());
+        if (info.getLockName() != null) {
+            dump.append(" on ").append(info.getLockName());
+        }
+        if (info.getLockOwnerName() != null) {
+            dump.append(" owned by \"").append(info.getLockOwnerName()).append('"');
+        }
+        dump.append('\n');
+
+        StackTraceElement[] stack = info.getStackTrace();
+        for (int i = 0; i < stack.length; i++) {
+            dump.append("\tat ").append(stack[i]).append('\n');
+            for (MonitorInfo monitor : info.getLockedMonitors()) {
+                if (monitor.getLockedStackDepth() == i) {
+                    dump.append("\t- locked ").append(monitor).append('\n');
+                }
+            }
+        }
+
+        LockInfo[] synchronizers = info.getLockedSynchronizers();
+        if (synchronizers.length > 0) {
+            dump.append("\tLocked synchronizers:\n");
+            for (LockInfo synchronizer : synchronizers) {
+                dump.append("\t- ").append(synchronizer).append('\n');
+            }
+        }
+        return dump.append('\n').toString();
+    }
+
+    /**
+     * A single armed time limit for one thread.
+     */
+    public static class Ticket {
+        private final String label;
+        private final long timeoutSeconds;
+        private final Thread owner;
+        private final AtomicInteger state = new AtomicInteger(ARMED);
+        private volatile ScheduledFuture<?> future;
+        private volatile String threadDumpPath;
+
+        private Ticket(String label, long timeoutSeconds, Thread owner) {
+            this.label = label;
+            this.timeoutSeconds = timeoutSeconds;
+            this.owner = owner;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(ARMED, EXPIRED)) {
+                return;
+            }
+
+            LogUtil.error("Watchdog expired: " + label + " exceeded " + timeoutSeconds + "s on thread " +
+                    owner.getName() + ". Reclaiming worker.");
+            threadDumpPath = writeThreadDump(label);
+            if (threadDumpPath != null) {
+                LogUtil.error("Thread dump written: " + threadDumpPath);
+            }
+
+            DriverManager.forceQuitDriver(owner);
+            owner.interrupt();
+        }
+
+        /**
+         * Disarms the ticket. Must be called on the thread that armed it.
+         * If the ticket already expired, waits for the expiry handling to finish and clears the
+         * interrupt it raised, so the worker can continue with the next test.
+         *
+         * @return True if the ticket expired, false if the work finished in time
+         */
+        public boolean disarm() {
+            if (state.compareAndSet(ARMED, DISARMED)) {
+                if (future != null) {
+                    future.cancel(false);
+                }
+                return false;
+            }
+
+            if (state.get() == EXPIRED) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    // The interrupt raised by the expiry itself; cleared below
+                } catch (ExecutionException e) {
+                    LogUtil.warn("Watchdog expiry handling failed for: " + label, e.getCause());
+                }
+                Thread.interrupted();
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Checks whether the ticket has expired.
+         *
+         * @return True if the time limit was exceeded
+         */
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        /**
+         * Gets the time limit of the ticket.
+         *
+         * @return The time limit in seconds
+         */
+        public long getTimeoutSeconds() {
+            return timeoutSeconds;
+        }
+
+        /**
+         * Gets the thread dump written when the ticket expired.
+         *
+         * @return The dump file path, or null if the ticket did not expire or the dump failed
+         */
+        public String getThreadDumpPath() {
+            return threadDumpPath;
+        }
+    }
+}
@@ -34,4 +34,12 @@ public @interface Keyword {
      * @return True if the keyword is mandatory, false otherwise
      */
     boolean mandatory() default true;
+
+    /**
+     * Maximum time the keyword may run before the watchdog fails it and force-quits the browser session.
+     * Zero uses the keyword.timeout.default setting (which is itself zero, i.e. no limit, unless configured).
+     *
+     * @return The keyword timeout in seconds
+     */
+    int timeoutSeconds() default 0;
 }
\ No newline at end of file
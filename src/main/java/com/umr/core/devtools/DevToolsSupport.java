@@ -0,0 +1,174 @@
+package com.umr.core.devtools;
+
+import com.umr.utils.LogUtil;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Gives access to the Chrome DevTools Protocol of a driver session (Chrome and Edge).
+ * Commands and events are addressed by their protocol names with untyped parameters, so the framework does not
+ * depend on the version-specific domain classes of Selenium and keeps working when the browser is updated.
+ * One DevTools session is opened per driver and reused by all users of that driver. The session is attached to
+ * one browser window; {@link #followCurrentWindow} moves it to the window the driver has switched to, after
+ * which the users re-enable their protocol domains through their {@link #onRetarget} callbacks.
+ */
+public class DevToolsSupport {
+
+    private static final Map<WebDriver, DevTools> sessions = new ConcurrentHashMap<>();
+    // Handle of the window each session is attached to
+    private static final Map<WebDriver, String> targetWindows = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, List<Runnable>> retargetCallbacks = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DevToolsSupport() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Checks whether a driver supports the DevTools protocol.
+     *
+     * @param driver The WebDriver instance
+     * @return True for Chromium-based drivers
+     */
+    public static boolean isSupported(WebDriver driver) {
+        return driver instanceof HasDevTools;
+    }
+
+    /**
+     * Gets the DevTools session of a driver, opening it on first use.
+     *
+     * @param driver The WebDriver instance
+     * @return The DevTools session, or null if the driver does not support DevTools or the session could not be opened
+     */
+    public static DevTools getDevTools(WebDriver driver) {
+        if (!isSupported(driver)) {
+            return null;
+        }
+        DevTools existing = sessions.get(driver);
+        if (existing != null) {
+            return existing;
+        }
+
+        // Opened outside the map, as it talks to the browser; the driver is only used by its own thread
+        try {
+            String windowHandle = driver.getWindowHandle();
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne(windowHandle);
+            targetWindows.put(driver, windowHandle);
+            sessions.put(driver, devTools);
+            return devTools;
+        } catch (RuntimeException e) {
+            LogUtil.warn("Could not open a DevTools session: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Moves the DevTools session of a driver to the window the driver currently works in, e.g. after switching
+     * to a new tab, and runs the registered retarget callbacks. Does nothing if the session is already attached
+     * to that window.
+     *
+     * @param driver The WebDriver instance
+     * @return True if the session follows the current window, false if there is no session or it could not be
+     *         moved (e.g. the current window was closed)
+     */
+    public static boolean followCurrentWindow(WebDriver driver) {
+        DevTools devTools = sessions.get(driver);
+        if (devTools == null) {
+            return false;
+        }
+
+        try {
+            String windowHandle = driver.getWindowHandle();
+            if (windowHandle.equals(targetWindows.get(driver))) {
+                return true;
+            }
+            devTools.disconnectSession();
+            devTools.createSession(windowHandle);
+            targetWindows.put(driver, windowHandle);
+            LogUtil.debug("DevTools session moved to window: " + windowHandle);
+        } catch (WebDriverException e) {
+            LogUtil.warn("Could not move the DevTools session to the current window: " + e.getMessage());
+            targetWindows.remove(driver);
+            return false;
+        }
+
+        for (Runnable callback : retargetCallbacks.getOrDefault(driver, List.of())) {
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                LogUtil.warn("Could not re-enable DevTools tracking in the current window: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Registers a callback that runs after the DevTools session of a driver moved to another window.
+     * Protocol domains are enabled per window, so users re-enable theirs here and forget state of the old window.
+     *
+     * @param driver The WebDriver instance
+     * @param callback Runs on the driver's thread after the move
+     */
+    public static void onRetarget(WebDriver driver, Runnable callback) {
+        retargetCallbacks.computeIfAbsent(driver, key -> new CopyOnWriteArrayList<>()).add(callback);
+    }
+
+    /**
+     * Sends a protocol command, e.g. "Network.enable".
+     *
+     * @param driver The WebDriver instance
+     * @param method The protocol method name
+     * @param params The command parameters
+     * @return The command result, or null if DevTools is not available
+     */
+    public static Map<String, Object> send(WebDriver driver, String method, Map<String, Object> params) {
+        DevTools devTools = getDevTools(driver);
+        if (devTools == null) {
+            return null;
+        }
+        return devTools.send(new Command<Map<String, Object>>(method, params, Json.MAP_TYPE));
+    }
+
+    /**
+     * Subscribes to a protocol event, e.g. "Network.requestWillBeSent".
+     * The listener is called on the DevTools connection thread and must not call back into the driver.
+     *
+     * @param driver The WebDriver instance
+     * @param eventName The protocol event name
+     * @param listener Receives the event parameters
+     * @return True if subscribed, false if DevTools is not available
+     */
+    public static boolean addListener(WebDriver driver, String eventName, Consumer<Map<String, Object>> listener) {
+        DevTools devTools = getDevTools(driver);
+        if (devTools == null) {
+            return false;
+        }
+        devTools.addListener(new Event<Map<String, Object>>(eventName, input -> input.read(Json.MAP_TYPE)), listener);
+        return true;
+    }
+
+    /**
+     * Forgets the DevTools session of a driver. Called when the driver is quit, which closes the connection.
+     *
+     * @param driver The WebDriver instance
+     */
+    public static void release(WebDriver driver) {
+        sessions.remove(driver);
+        targetWindows.remove(driver);
+        retargetCallbacks.remove(driver);
+    }
+}
@@ -0,0 +1,245 @@
+package com.umr.core.devtools;
+
+import com.umr.core.config.ConfigLoader;
+import com.umr.utils.LogUtil;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Tracks the in-flight network requests of a driver session through the DevTools Network domain.
+ * The network is idle when no request has been pending for a quiet window; unlike jQuery.active this also
+ * covers Angular/PrimeNG applications and any fetch or XHR the page makes. Requests whose URL matches one of
+ * the network.idle.ignore.patterns (long-polling, telemetry) are never waited for. Requests of the previous
+ * document are forgotten when the main frame navigates, and a request that has been pending for longer than a
+ * wait's timeout is treated as abandoned (beacons, requests of detached frames never report that they finished).
+ * One monitor is attached per driver session and released when the session is quit. It follows the driver to
+ * the window it currently works in; if the session cannot follow, the monitor is not used.
+ */
+public class NetworkIdleMonitor {
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+    private static final Map<WebDriver, NetworkIdleMonitor> monitors = new ConcurrentHashMap<>();
+
+    private final List<Pattern> ignorePatterns;
+    // requestId -> requests that have been sent but have not finished or failed yet
+    private final Map<String, PendingRequest> inFlight = new ConcurrentHashMap<>();
+    private volatile long lastActivity = System.currentTimeMillis();
+
+    private NetworkIdleMonitor(List<Pattern> ignorePatterns) {
+        this.ignorePatterns = ignorePatterns;
+    }
+
+    /**
+     * Gets the monitor of a driver session, attaching one on first use, and moves it to the driver's current
+     * window if the driver has switched windows.
+     *
+     * @param driver The WebDriver instance
+     * @return The monitor, or null if network tracking is disabled, the driver does not support DevTools or the
+     *         current window cannot be tracked
+     */
+    public static NetworkIdleMonitor get(WebDriver driver) {
+        NetworkIdleMonitor monitor = monitors.get(driver);
+        if (monitor != null) {
+            return DevToolsSupport.followCurrentWindow(driver) ? monitor : null;
+        }
+        if (!config.getBooleanProperty("network.idle.enabled", true) || !DevToolsSupport.isSupported(driver)) {
+            return null;
+        }
+        return attach(driver);
+    }
+
+    /**
+     * Attaches a monitor to a driver session. Attach right after the driver is created so that requests of the
+     * first page are seen from the start.
+     *
+     * @param driver The WebDriver instance
+     * @return The monitor, or null if the DevTools Network domain could not be enabled
+     */
+    public static synchronized NetworkIdleMonitor attach(WebDriver driver) {
+        NetworkIdleMonitor existing = monitors.get(driver);
+        if (existing != null) {
+            return existing;
+        }
+
+        NetworkIdleMonitor monitor = new NetworkIdleMonitor(
+                compilePatterns(config.getProperty("network.idle.ignore.patterns", "")));
+        try {
+            boolean subscribed = DevToolsSupport.addListener(driver, "Network.requestWillBeSent", monitor::onRequestSent)
+                    && DevToolsSupport.addListener(driver, "Network.loadingFinished", monitor::onRequestDone)
+                    && DevToolsSupport.addListener(driver, "Network.loadingFailed", monitor::onRequestDone)
+                    && DevToolsSupport.addListener(driver, "Page.frameNavigated", monitor::onFrameNavigated);
+            if (!subscribed) {
+                return null;
+            }
+            DevToolsSupport.send(driver, "Network.enable", new HashMap<>());
+            DevToolsSupport.send(driver, "Page.enable", new HashMap<>());
+            DevToolsSupport.onRetarget(driver, () -> {
+                // Requests of the previous window will not be reported any more
+                monitor.inFlight.clear();
+                monitor.activity();
+                DevToolsSupport.send(driver, "Network.enable", new HashMap<>());
+                DevToolsSupport.send(driver, "Page.enable", new HashMap<>());
+            });
+        } catch (RuntimeException e) {
+            LogUtil.warn("Network idle tracking not available, falling back to page load checks: " + e.getMessage());
+            return null;
+        }
+
+        monitors.put(driver, monitor);
+        LogUtil.debug("Network idle monitor attached");
+        return monitor;
+    }
+
+    /**
+     * Detaches the monitor of a driver session. Called when the session is quit.
+     *
+     * @param driver The WebDriver instance
+     */
+    public static void release(WebDriver driver) {
+        monitors.remove(driver);
+    }
+
+    /**
+     * Waits until no tracked request has been in flight for the quiet window.
+     * The quiet window never starts before the call: events arrive asynchronously, so a request triggered right
+     * before the call may not be known yet, and the network must stay idle for a full window after the call.
+     *
+     * @param quiet How long the network must stay idle
+     * @param timeout Maximum time to wait
+     * @return True if the network became idle, false on timeout
+     */
+    public boolean waitForIdle(Duration quiet, Duration timeout) {
+        long callTime = System.currentTimeMillis();
+        long deadline = callTime + timeout.toMillis();
+        long quietMillis = quiet.toMillis();
+
+        synchronized (this) {
+            while (true) {
+                long now = System.currentTimeMillis();
+                dropAbandoned(now - timeout.toMillis());
+                long idleFor = inFlight.isEmpty() ? now - Math.max(callTime, lastActivity) : 0;
+                if (idleFor >= quietMillis) {
+                    return true;
+                }
+                if (now >= deadline) {
+                    return false;
+                }
+
+                // Woken early by every finished request; otherwise wake when the quiet window would be complete
+                long sleep = inFlight.isEmpty() ? quietMillis - idleFor : deadline - now;
+                try {
+                    wait(Math.max(1, Math.min(sleep, deadline - now)));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of requests currently in flight.
+     *
+     * @return The number of tracked pending requests
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Gets the URLs of the requests currently in flight, e.g. to report what a timed out wait was waiting for.
+     *
+     * @return The pending request URLs
+     */
+    public Collection<String> getInFlightUrls() {
+        List<String> urls = new ArrayList<>();
+        for (PendingRequest request : inFlight.values()) {
+            urls.add(request.url);
+        }
+        return urls;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onRequestSent(Map<String, Object> event) {
+        Object request = event.get("request");
+        String url = request instanceof Map ? String.valueOf(((Map<String, Object>) request).get("url")) : "";
+        if (isIgnored(url)) {
+            return;
+        }
+        inFlight.put(String.valueOf(event.get("requestId")), new PendingRequest(url, System.currentTimeMillis()));
+        activity();
+    }
+
+    private void onRequestDone(Map<String, Object> event) {
+        if (inFlight.remove(String.valueOf(event.get("requestId"))) != null) {
+            activity();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onFrameNavigated(Map<String, Object> event) {
+        Object frame = event.get("frame");
+        if (!(frame instanceof Map) || ((Map<String, Object>) frame).get("parentId") != null) {
+            return;
+        }
+        // A new document: requests of the previous one will not report that they finished
+        if (!inFlight.isEmpty()) {
+            inFlight.clear();
+            activity();
+        }
+    }
+
+    private void dropAbandoned(long sentBefore) {
+        inFlight.values().removeIf(request -> request.sentMillis < sentBefore);
+    }
+
+    private synchronized void activity() {
+        lastActivity = System.currentTimeMillis();
+        notifyAll();
+    }
+
+    private boolean isIgnored(String url) {
+        for (Pattern pattern : ignorePatterns) {
+            if (pattern.matcher(url).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Pattern> compilePatterns(String patternList) {
+        List<Pattern> patterns = new ArrayList<>();
+        for (String pattern : patternList.split(",")) {
+            if (pattern.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                patterns.add(Pattern.compile(pattern.trim()));
+            } catch (PatternSyntaxException e) {
+                LogUtil.warn("Ignoring invalid network.idle.ignore.patterns entry: " + pattern.trim());
+            }
+        }
+        return patterns;
+    }
+
+    /**
+     * A request that has been sent but has not finished or failed yet.
+     */
+    private static class PendingRequest {
+        private final String url;
+        private final long sentMillis;
+
+        private PendingRequest(String url, long sentMillis) {
+            this.url = url;
+            this.sentMillis = sentMillis;
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package com.umr.core.devtools;
+
+import com.umr.core.config.ConfigLoader;
+import com.umr.utils.LogUtil;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Records the timings of the network requests of a driver session through the DevTools Network domain, one
+ * window per keyword. A window summarises the requests started while the keyword ran (count, bytes, server wait,
+ * slowest URLs), which tells whether a slow keyword waited for the CBP backend or spent its time in the framework.
+ * The full window can be written as a gzipped HAR-like file.
+ * Recording is optional (network.recorder.enabled); one recorder is attached per driver session and follows the
+ * driver to the window it currently works in.
+ */
+public class NetworkRecorder {
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+    private static final Map<WebDriver, NetworkRecorder> recorders = new ConcurrentHashMap<>();
+
+    // Bounds the memory of a window that is never ended, e.g. outside the test runner
+    private static final int MAX_WINDOW_ENTRIES = 10000;
+
+    private final Map<String, Entry> pending = new HashMap<>();
+    private List<Entry> window = new ArrayList<>();
+    private int droppedEntries;
+
+    private NetworkRecorder() {
+    }
+
+    /**
+     * Checks whether network recording is enabled.
+     *
+     * @return True if network.recorder.enabled is set
+     */
+    public static boolean isEnabled() {
+        return config.getBooleanProperty("network.recorder.enabled", false);
+    }
+
+    /**
+     * Gets the recorder of a driver session and moves it to the driver's current window if the driver has
+     * switched windows.
+     *
+     * @param driver The WebDriver instance; may be null
+     * @return The recorder, or null if none is attached or the current window cannot be recorded
+     */
+    public static NetworkRecorder get(WebDriver driver) {
+        NetworkRecorder recorder = driver != null ? recorders.get(driver) : null;
+        if (recorder == null) {
+            return null;
+        }
+        return DevToolsSupport.followCurrentWindow(driver) ? recorder : null;
+    }
+
+    /**
+     * Attaches a recorder to a new driver session. The first window starts right away.
+     *
+     * @param driver The WebDriver instance
+     * @return The recorder, or null if the driver does not support DevTools
+     */
+    public static NetworkRecorder attach(WebDriver driver) {
+        NetworkRecorder recorder = new NetworkRecorder();
+        try {
+            boolean subscribed = DevToolsSupport.addListener(driver, "Network.requestWillBeSent", recorder::onRequestSent)
+                    && DevToolsSupport.addListener(driver, "Network.responseReceived", recorder::onResponseReceived)
+                    && DevToolsSupport.addListener(driver, "Network.loadingFinished", recorder::onLoadingFinished)
+                    && DevToolsSupport.addListener(driver, "Network.loadingFailed", recorder::onLoadingFailed);
+            if (!subscribed) {
+                LogUtil.warn("Network recording needs DevTools (Chrome or Edge); not recording this session");
+                return null;
+            }
+            DevToolsSupport.send(driver, "Network.enable", new HashMap<>());
+            DevToolsSupport.onRetarget(driver, () -> {
+                // Requests of the previous window will not be reported any more
+                recorder.clearPending();
+                DevToolsSupport.send(driver, "Network.enable", new HashMap<>());
+            });
+        } catch (RuntimeException e) {
+            LogUtil.warn("Could not start network recording: " + e.getMessage());
+            return null;
+        }
+
+        recorders.put(driver, recorder);
+        LogUtil.debug("Network recorder attached");
+        return recorder;
+    }
+
+    /**
+     * Detaches the recorder of a driver session. Called when the session is quit.
+     *
+     * @param driver The WebDriver instance
+     */
+    public static void release(WebDriver driver) {
+        recorders.remove(driver);
+    }
+
+    /**
+     * Starts a new window, discarding requests recorded since the last window ended.
+     * Requests still pending belong to an earlier window, which has already been summarised, so they are
+     * no longer tracked; this also forgets requests that never report that they finished.
+     */
+    public synchronized void beginWindow() {
+        window = new ArrayList<>();
+        droppedEntries = 0;
+        pending.clear();
+    }
+
+    /**
+     * Ends the current window and starts the next one.
+     *
+     * @return The requests started during the window; requests still in flight are included as pending
+     */
+    public synchronized Window endWindow() {
+        // Requests still in flight keep being updated, so the window gets a snapshot
+        List<Entry> snapshot = new ArrayList<>();
+        for (Entry entry : window) {
+            snapshot.add(entry.copy());
+        }
+        Window ended = new Window(snapshot, droppedEntries);
+        beginWindow();
+        return ended;
+    }
+
+    private synchronized void clearPending() {
+        pending.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void onRequestSent(Map<String, Object> event) {
+        String requestId = String.valueOf(event.get("requestId"));
+        double timestamp = number(event.get("timestamp"));
+
+        // A redirect reuses the request id; the previous hop ends here
+        Entry previous = pending.remove(requestId);
+        if (previous != null && event.get("redirectResponse") instanceof Map) {
+            previous.applyResponse((Map<String, Object>) event.get("redirectResponse"));
+            previous.endTimestamp = timestamp;
+        }
+
+        if (window.size() >= MAX_WINDOW_ENTRIES) {
+            droppedEntries++;
+            return;
+        }
+
+        Map<String, Object> request = (Map<String, Object>) event.get("request");
+        Entry entry = new Entry();
+        entry.url = request != null ? String.valueOf(request.get("url")) : "";
+        entry.method = request != null ? String.valueOf(request.get("method")) : "";
+        entry.resourceType = String.valueOf(event.get("type"));
+        entry.startTimestamp = timestamp;
+        entry.wallTimeMillis = (long) (number(event.get("wallTime")) * 1000);
+        pending.put(requestId, entry);
+        window.add(entry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void onResponseReceived(Map<String, Object> event) {
+        Entry entry = pending.get(String.valueOf(event.get("requestId")));
+        if (entry != null && event.get("response") instanceof Map) {
+            entry.applyResponse((Map<String, Object>) event.get("response"));
+        }
+    }
+
+    private synchronized void onLoadingFinished(Map<String, Object> event) {
+        Entry entry = pending.remove(String.valueOf(event.get("requestId")));
+        if (entry != null) {
+            entry.endTimestamp = number(event.get("timestamp"));
+            entry.bytes = (long) number(event.get("encodedDataLength"));
+        }
+    }
+
+    private synchronized void onLoadingFailed(Map<String, Object> event) {
+        Entry entry = pending.remove(String.valueOf(event.get("requestId")));
+        if (entry != null) {
+            entry.endTimestamp = number(event.get("timestamp"));
+            entry.error = String.valueOf(event.get("errorText"));
+        }
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+
+    /**
+     * The requests started during one window.
+     */
+    public static class Window {
+        private final List<Entry> entries;
+        private final int droppedEntries;
+
+        private Window(List<Entry> entries, int droppedEntries) {
+            this.entries = entries;
+            this.droppedEntries = droppedEntries;
+        }
+
+        public int getRequestCount() {
+            return entries.size() + droppedEntries;
+        }
+
+        public long getBytes() {
+            long bytes = 0;
+            for (Entry entry : entries) {
+                bytes += entry.bytes;
+            }
+            return bytes;
+        }
+
+        /**
+         * Gets the total time the server took to answer, from request sent to response headers received.
+         *
+         * @return Summed server wait of all requests in milliseconds
+         */
+        public long getServerWaitMillis() {
+            long wait = 0;
+            for (Entry entry : entries) {
+                wait += Math.max(0, entry.getWaitMillis());
+            }
+            return wait;
+        }
+
+        public long getFailedCount() {
+            return entries.stream().filter(entry -> entry.error != null).count();
+        }
+
+        public long getPendingCount() {
+            return entries.stream().filter(entry -> entry.error == null && entry.endTimestamp == 0).count();
+        }
+
+        /**
+         * Gets the slowest finished requests.
+         *
+         * @param count Maximum number of requests
+         * @return "URL (duration ms)" of the slowest requests, slowest first
+         */
+        public List<String> getSlowest(int count) {
+            List<String> slowest = new ArrayList<>();
+            entries.stream()
+                    .filter(entry -> entry.endTimestamp > 0)
+                    .sorted(Comparator.comparingLong(Entry::getDurationMillis).reversed())
+                    .limit(count)
+                    .forEach(entry -> slowest.add(entry.url + " (" + entry.getDurationMillis() + "ms)"));
+            return slowest;
+        }
+
+        /**
+         * Gets a one-line summary for the report.
+         *
+         * @return The window summary
+         */
+        public String getSummary() {
+            StringBuilder summary = new StringBuilder();
+            summary.append(getRequestCount()).append(" request(s), ")
+                    .append(String.format("%.1f KB", getBytes() / 1024.0))
+                    .append(", server wait ").append(getServerWaitMillis()).append("ms");
+            if (getFailedCount() > 0) {
+                summary.append(", ").append(getFailedCount()).append(" failed");
+            }
+            if (getPendingCount() > 0) {
+                summary.append(", ").append(getPendingCount()).append(" pending");
+            }
+            List<String> slowest = getSlowest(config.getIntProperty("network.recorder.slowest.count", 3));
+            if (!slowest.isEmpty()) {
+                summary.append("; slowest: ").append(String.join(", ", slowest));
+            }
+            return summary.toString();
+        }
+
+        /**
+         * Writes the window as a gzipped HAR-like file.
+         *
+         * @param file The file to write
+         * @throws IOException If the file cannot be written
+         */
+        public void writeHar(File file) throws IOException {
+            List<Map<String, Object>> harEntries = new ArrayList<>();
+            for (Entry entry : entries) {
+                harEntries.add(entry.toHar());
+            }
+
+            Map<String, Object> creator = new LinkedHashMap<>();
+            creator.put("name", "ui-testing NetworkRecorder");
+            creator.put("version", "1.0");
+            Map<String, Object> log = new LinkedHashMap<>();
+            log.put("version", "1.2");
+            log.put("creator", creator);
+            log.put("entries", harEntries);
+            Map<String, Object> har = new LinkedHashMap<>();
+            har.put("log", log);
+
+            file.getParentFile().mkdirs();
+            try (Writer writer = new OutputStreamWriter(
+                    new GZIPOutputStream(new FileOutputStream(file)), StandardCharsets.UTF_8)) {
+                writer.write(new Json().toJson(har));
+            }
+        }
+    }
+
+    /**
+     * One recorded request. Timestamps are DevTools monotonic seconds; response timings are milliseconds
+     * relative to the request time.
+     */
+    private static class Entry {
+        private String url;
+        private String method;
+        private String resourceType;
+        private double startTimestamp;
+        private double endTimestamp;
+        private long wallTimeMillis;
+        private long status;
+        private String mimeType;
+        private long bytes;
+        private String error;
+        private Map<String, Object> timing;
+
+        private Entry copy() {
+            Entry copy = new Entry();
+            copy.url = url;
+            copy.method = method;
+            copy.resourceType = resourceType;
+            copy.startTimestamp = startTimestamp;
+            copy.endTimestamp = endTimestamp;
+            copy.wallTimeMillis = wallTimeMillis;
+            copy.status = status;
+            copy.mimeType = mimeType;
+            copy.bytes = bytes;
+            copy.error = error;
+            copy.timing = timing;
+            return copy;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void applyResponse(Map<String, Object> response) {
+            status = (long) number(response.get("status"));
+            mimeType = String.valueOf(response.get("mimeType"));
+            if (response.get("timing") instanceof Map) {
+                timing = (Map<String, Object>) response.get("timing");
+            }
+        }
+
+        private long getDurationMillis() {
+            return endTimestamp > 0 ? Math.round((endTimestamp - startTimestamp) * 1000) : -1;
+        }
+
+        private long getWaitMillis() {
+            return phase("sendEnd", "receiveHeadersEnd");
+        }
+
+        private long phase(String startField, String endField) {
+            if (timing == null) {
+                return -1;
+            }
+            double start = number(timing.get(startField));
+            double end = number(timing.get(endField));
+            return start >= 0 && end >= start ? Math.round(end - start) : -1;
+        }
+
+        private Map<String, Object> toHar() {
+            Map<String, Object> request = new LinkedHashMap<>();
+            request.put("method", method);
+            request.put("url", url);
+
+            Map<String, Object> content = new LinkedHashMap<>();
+            content.put("size", bytes);
+            content.put("mimeType", mimeType != null ? mimeType : "");
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("status", status);
+            response.put("content", content);
+            response.put("bodySize", bytes);
+
+            Map<String, Object> timings = new LinkedHashMap<>();
+            timings.put("dns", phase("dnsStart", "dnsEnd"));
+            timings.put("connect", phase("connectStart", "connectEnd"));
+            timings.put("ssl", phase("sslStart", "sslEnd"));
+            timings.put("send", phase("sendStart", "sendEnd"));
+            timings.put("wait", getWaitMillis());
+            long headersEnd = timing != null ? Math.round(number(timing.get("receiveHeadersEnd"))) : -1;
+            long requestOffset = timing != null
+                    ? Math.round((number(timing.get("requestTime")) - startTimestamp) * 1000) : 0;
+            long duration = getDurationMillis();
+            timings.put("receive", duration >= 0 && headersEnd >= 0
+                    ? Math.max(0, duration - requestOffset - headersEnd) : -1);
+
+            Map<String, Object> har = new LinkedHashMap<>();
+            har.put("startedDateTime", Instant.ofEpochMilli(wallTimeMillis).toString());
+            har.put("time", duration);
+            har.put("request", request);
+            har.put("response", response);
+            har.put("timings", timings);
+            har.put("_resourceType", resourceType);
+            if (error != null) {
+                har.put("_error", error);
+            }
+            if (endTimestamp == 0 && error == null) {
+                har.put("_pending", true);
+            }
+            return har;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.umr.core.devtools;
+
+import com.umr.core.config.ConfigLoader;
+import com.umr.utils.LogUtil;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Blocks requests the tests never assert on (analytics, fonts, large images) through the DevTools Fetch domain.
+ * Requests matching network.block.url.patterns are failed before they are sent. Responses of the resource types
+ * in network.block.resource.types are failed as soon as their headers arrive, so their bodies are never
+ * downloaded and the Content-Length counts as bytes saved.
+ * Blocking is off by default (network.block.enabled) and can be switched per test with the BlockRequests
+ * column of TestRunner.xlsx. Counters are kept for the whole run.
+ */
+public class RequestBlocker {
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+
+    // BlockRequests setting of the test running on the current thread; null = use network.block.enabled
+    private static final ThreadLocal<Boolean> testSetting = new ThreadLocal<>();
+
+    private static final Map<String, Long> blockedByType = new TreeMap<>();
+    private static final AtomicLong bytesSaved = new AtomicLong();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private RequestBlocker() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Applies the BlockRequests setting of the test starting on the current thread.
+     *
+     * @param value Y or N; empty or null to use network.block.enabled
+     */
+    public static void setTestSetting(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            testSetting.remove();
+        } else {
+            testSetting.set(value.trim().equalsIgnoreCase("Y") || value.trim().equalsIgnoreCase("true"));
+        }
+    }
+
+    /**
+     * Clears the BlockRequests setting of the current thread. Called when a test finishes.
+     */
+    public static void clearTestSetting() {
+        testSetting.remove();
+    }
+
+    /**
+     * Checks whether sessions created on the current thread block requests.
+     *
+     * @return True if blocking is enabled for the current test
+     */
+    public static boolean isEnabled() {
+        Boolean setting = testSetting.get();
+        return setting != null ? setting : config.getBooleanProperty("network.block.enabled", false);
+    }
+
+    /**
+     * Starts blocking on a new driver session. Does nothing for drivers without DevTools support.
+     *
+     * @param driver The WebDriver instance
+     * @return True if blocking is active on the session
+     */
+    public static boolean attach(WebDriver driver) {
+        List<String> urlPatterns = splitList(config.getProperty("network.block.url.patterns", ""));
+        List<String> resourceTypes = splitList(config.getProperty("network.block.resource.types", ""));
+        if (urlPatterns.isEmpty() && resourceTypes.isEmpty()) {
+            LogUtil.warn("Request blocking enabled but no network.block.url.patterns or resource types configured");
+            return false;
+        }
+
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        for (String urlPattern : urlPatterns) {
+            patterns.add(pattern(urlPattern, null, "Request"));
+        }
+        for (String resourceType : resourceTypes) {
+            patterns.add(pattern("*", resourceType, "Response"));
+        }
+
+        try {
+            if (!DevToolsSupport.addListener(driver, "Fetch.requestPaused", event -> block(driver, event))) {
+                LogUtil.warn("Request blocking needs DevTools (Chrome or Edge); not blocking for this session");
+                return false;
+            }
+            Map<String, Object> params = new HashMap<>();
+            params.put("patterns", patterns);
+            DevToolsSupport.send(driver, "Fetch.enable", params);
+            // Fetch interception is enabled per window
+            DevToolsSupport.onRetarget(driver, () -> DevToolsSupport.send(driver, "Fetch.enable", params));
+        } catch (RuntimeException e) {
+            LogUtil.warn("Could not enable request blocking: " + e.getMessage());
+            return false;
+        }
+
+        LogUtil.info("Request blocking enabled: " + urlPatterns.size() + " URL pattern(s), resource types " + resourceTypes);
+        return true;
+    }
+
+    /**
+     * Gets the number of blocked requests by resource type.
+     *
+     * @return Blocked request counts of the run so far
+     */
+    public static Map<String, Long> getBlockedCounts() {
+        synchronized (blockedByType) {
+            return new TreeMap<>(blockedByType);
+        }
+    }
+
+    /**
+     * Gets the total number of blocked requests.
+     *
+     * @return Blocked requests of the run so far
+     */
+    public static long getBlockedTotal() {
+        long total = 0;
+        for (long count : getBlockedCounts().values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Gets the bytes not downloaded because of blocking. Only counts blocked responses that declared a
+     * Content-Length; requests blocked before they were sent have no known size.
+     *
+     * @return Bytes saved in the run so far
+     */
+    public static long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void block(WebDriver driver, Map<String, Object> event) {
+        String resourceType = String.valueOf(event.get("resourceType"));
+        if (event.containsKey("responseHeaders")) {
+            bytesSaved.addAndGet(contentLength((List<Map<String, Object>>) event.get("responseHeaders")));
+        }
+        synchronized (blockedByType) {
+            blockedByType.merge(resourceType, 1L, Long::sum);
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("requestId", event.get("requestId"));
+        params.put("errorReason", "BlockedByClient");
+        try {
+            DevToolsSupport.send(driver, "Fetch.failRequest", params);
+        } catch (RuntimeException e) {
+            // The page navigated away or the session is closing; the request is gone anyway
+            LogUtil.debug("Could not fail blocked request: " + e.getMessage());
+        }
+    }
+
+    private static long contentLength(List<Map<String, Object>> headers) {
+        if (headers == null) {
+            return 0;
+        }
+        for (Map<String, Object> header : headers) {
+            if ("content-length".equalsIgnoreCase(String.valueOf(header.get("name")))) {
+                try {
+                    return Long.parseLong(String.valueOf(header.get("value")).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static Map<String, Object> pattern(String urlPattern, String resourceType, String requestStage) {
+        Map<String, Object> pattern = new HashMap<>();
+        pattern.put("urlPattern", urlPattern);
+        if (resourceType != null) {
+            pattern.put("resourceType", resourceType);
+        }
+        pattern.put("requestStage", requestStage);
+        return pattern;
+    }
+
+    private static List<String> splitList(String list) {
+        List<String> values = new ArrayList<>();
+        for (String value : list.split(",")) {
+            if (!value.trim().isEmpty()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
+}
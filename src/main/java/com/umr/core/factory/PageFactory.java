@@ -3,35 +3,75 @@ package com.umr.core.factory;
 import com.umr.utils.LogUtil;
 import org.openqa.selenium.WebDriver;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides page objects by name.
+ * Page objects are kept per driver session, so repeated keywords on the same page reuse them instead of
+ * building a new page object every time. The page objects of a session are released when the session is quit
+ * (see {@link #release(WebDriver)}).
+ */
 public class PageFactory {
 
-    public static BasePage getPage(String pageName, WebDriver driver) {
-        LogUtil.debug("Creating page object for: " + pageName);
+    // Page objects hold a strong reference to their driver, so entries are released explicitly on quit
+    private static final Map<WebDriver, Map<String, BasePage>> pagesByDriver = new ConcurrentHashMap<>();
 
+    public static BasePage getPage(String pageName, WebDriver driver) {
         if (pageName == null || pageName.isEmpty()) {
             LogUtil.error("Page name cannot be null or empty");
             throw new IllegalArgumentException("Page name cannot be null or empty");
         }
 
+        String canonicalName = getCanonicalName(pageName);
+        Map<String, BasePage> pages = pagesByDriver.computeIfAbsent(driver, key -> new ConcurrentHashMap<>());
+        return pages.computeIfAbsent(canonicalName, key -> createPage(key, driver));
+    }
+
+    /**
+     * Drops the cached page objects of a driver session. Called when the session is quit.
+     *
+     * @param driver The WebDriver instance
+     */
+    public static void release(WebDriver driver) {
+        pagesByDriver.remove(driver);
+    }
+
+    private static String getCanonicalName(String pageName) {
         // Convert to lowercase for case-insensitive comparison
         String pageNameLower = pageName.toLowerCase();
 
         switch (pageNameLower) {
             case "login":
             case "loginpage":
-                return new LoginPage(driver);
+                return "login";
 
             case "home":
             case "homepage":
-                return new HomePage(driver);
+                return "home";
 
             case "searchresults":
             case "searchresultspage":
-                return new SearchResultsPage(driver);
+                return "searchresults";
 
             default:
                 LogUtil.error("Unsupported page: " + pageName);
                 throw new IllegalArgumentException("Unsupported page: " + pageName);
         }
     }
-}
\ No newline at end of file
+
+    private static BasePage createPage(String canonicalName, WebDriver driver) {
+        LogUtil.debug("Creating page object for: " + canonicalName);
+
+        switch (canonicalName) {
+            case "login":
+                return new LoginPage(driver);
+
+            case "home":
+                return new HomePage(driver);
+
+            default:
+                return new SearchResultsPage(driver);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.umr.core.jfr;
+
+import com.umr.core.config.ConfigLoader;
+import com.umr.utils.LogUtil;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * Runs a continuous Java Flight Recorder recording of the test run (jfr.enabled) and tells the framework's JFR
+ * events which test and keyword the current thread is working on.
+ * The recording uses the low-overhead JDK settings (jfr.settings) and is written to jfr.dir when the run ends;
+ * open it in JDK Mission Control to see where wall time and allocations go per keyword, wait, screenshot and
+ * report write (event category "UI Testing").
+ */
+public class FrameworkRecording {
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+
+    private static final ThreadLocal<String> testIdThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<String> keywordThreadLocal = new ThreadLocal<>();
+
+    private static Recording recording;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private FrameworkRecording() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Starts the run recording if jfr.enabled is set.
+     *
+     * @param runId The run identifier, used as the recording file name
+     */
+    public static synchronized void start(String runId) {
+        if (recording != null || !config.getBooleanProperty("jfr.enabled", false)) {
+            return;
+        }
+
+        String settings = config.getProperty("jfr.settings", "default");
+        File destination = new File(config.getProperty("jfr.dir", config.getReportsDirectory() + "/jfr"),
+                "run_" + runId + ".jfr");
+        try {
+            destination.getAbsoluteFile().getParentFile().mkdirs();
+            Recording newRecording = new Recording(Configuration.getConfiguration(settings));
+            newRecording.setName("UI test run " + runId);
+            newRecording.setToDisk(true);
+            newRecording.setDestination(destination.toPath());
+            int maxAgeMinutes = config.getIntProperty("jfr.max.age.minutes", 0);
+            if (maxAgeMinutes > 0) {
+                newRecording.setMaxAge(Duration.ofMinutes(maxAgeMinutes));
+            }
+            newRecording.start();
+            recording = newRecording;
+            LogUtil.info("Flight recording started (" + settings + " settings): " + destination.getPath());
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            LogUtil.warn("Could not start flight recording: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the run recording and writes it to its destination. Does nothing if no recording is running.
+     */
+    public static synchronized void stop() {
+        if (recording == null) {
+            return;
+        }
+        try {
+            recording.stop();
+            LogUtil.info("Flight recording written: " + recording.getDestination());
+        } catch (IllegalStateException e) {
+            LogUtil.warn("Could not write flight recording: " + e.getMessage());
+        } finally {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /**
+     * Sets the test the current thread is running, or null when it finishes.
+     *
+     * @param testId The test ID
+     */
+    public static void setTestId(String testId) {
+        testIdThreadLocal.set(testId);
+    }
+
+    /**
+     * Sets the keyword the current thread is running, or null when it finishes.
+     *
+     * @param keyword The keyword name
+     */
+    public static void setKeyword(String keyword) {
+        keywordThreadLocal.set(keyword);
+    }
+
+    public static String getTestId() {
+        return testIdThreadLocal.get();
+    }
+
+    public static String getKeyword() {
+        return keywordThreadLocal.get();
+    }
+}
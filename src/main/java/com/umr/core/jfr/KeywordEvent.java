@@ -0,0 +1,53 @@
+package com.umr.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for one keyword execution, emitted by KeywordExecutor.
+ */
+@Name("com.umr.Keyword")
+@Label("Keyword")
+@Category("UI Testing")
+@Description("Execution of one test flow keyword")
+public class KeywordEvent extends Event {
+    @Label("Test ID")
+    private String testId;
+
+    @Label("Keyword")
+    private String keyword;
+
+    @Label("Success")
+    private boolean success;
+
+    /**
+     * Starts timing a keyword.
+     *
+     * @return The started event
+     */
+    public static KeywordEvent start() {
+        KeywordEvent event = new KeywordEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing and commits the event if it is enabled and over its threshold.
+     *
+     * @param testId The test ID
+     * @param keyword The keyword name
+     * @param success Whether the keyword succeeded
+     */
+    public void finish(String testId, String keyword, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.testId = testId;
+            this.keyword = keyword;
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.umr.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for one write to the test report by ReportManager.
+ */
+@Name("com.umr.Report")
+@Label("Report Write")
+@Category("UI Testing")
+@Description("A log entry, screenshot attachment, status change or flush of the test report")
+public class ReportEvent extends Event {
+    @Label("Test ID")
+    private String testId;
+
+    @Label("Keyword")
+    private String keyword;
+
+    @Label("Operation")
+    private String operation;
+
+    /**
+     * Starts timing a report write.
+     *
+     * @return The started event
+     */
+    public static ReportEvent start() {
+        ReportEvent event = new ReportEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing and commits the event if it is enabled and over its threshold.
+     *
+     * @param operation The ReportManager operation, e.g. logInfo
+     * @param testId The test ID; null for run-wide operations
+     */
+    public void finish(String operation, String testId) {
+        end();
+        if (shouldCommit()) {
+            this.testId = testId;
+            this.keyword = FrameworkRecording.getKeyword();
+            this.operation = operation;
+            commit();
+        }
+    }
+}
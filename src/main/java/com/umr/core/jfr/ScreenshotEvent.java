@@ -0,0 +1,56 @@
+package com.umr.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for one screenshot taken by ScreenshotUtils.
+ */
+@Name("com.umr.Screenshot")
+@Label("Screenshot")
+@Category("UI Testing")
+@Description("Capture and save of a browser screenshot")
+public class ScreenshotEvent extends Event {
+    @Label("Test ID")
+    private String testId;
+
+    @Label("Keyword")
+    private String keyword;
+
+    @Label("File Name")
+    private String fileName;
+
+    @Label("Saved")
+    private boolean saved;
+
+    /**
+     * Starts timing a screenshot.
+     *
+     * @return The started event
+     */
+    public static ScreenshotEvent start() {
+        ScreenshotEvent event = new ScreenshotEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing and commits the event if it is enabled and over its threshold.
+     *
+     * @param fileName The screenshot base name
+     * @param saved Whether the screenshot was saved
+     */
+    public void finish(String fileName, boolean saved) {
+        end();
+        if (shouldCommit()) {
+            this.testId = FrameworkRecording.getTestId();
+            this.keyword = FrameworkRecording.getKeyword();
+            this.fileName = fileName;
+            this.saved = saved;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.umr.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for one wait of WebElementUtils.
+ */
+@Name("com.umr.Wait")
+@Label("Wait")
+@Category("UI Testing")
+@Description("A wait for an element, page or application condition")
+public class WaitEvent extends Event {
+    @Label("Test ID")
+    private String testId;
+
+    @Label("Keyword")
+    private String keyword;
+
+    @Label("Condition")
+    private String condition;
+
+    @Label("Satisfied")
+    private boolean satisfied;
+
+    /**
+     * Starts timing a wait.
+     *
+     * @return The started event
+     */
+    public static WaitEvent start() {
+        WaitEvent event = new WaitEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing and commits the event if it is enabled and over its threshold.
+     *
+     * @param condition What was waited for
+     * @param satisfied Whether the condition was met before the timeout
+     */
+    public void finish(String condition, boolean satisfied) {
+        end();
+        if (shouldCommit()) {
+            this.testId = FrameworkRecording.getTestId();
+            this.keyword = FrameworkRecording.getKeyword();
+            this.condition = condition;
+            this.satisfied = satisfied;
+            commit();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.umr.core.TestContext;
 import com.umr.core.annotation.Keyword;
 import com.umr.utils.LogUtil;
 import com.umr.utils.ScreenshotUtils;
+import com.umr.utils.WebElementUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
@@ -120,7 +121,7 @@ public class ApplicationKeywords {
                 ));
 
                 // Check if error message is displayed
-                if (driver.findElements(By.className("error-message")).size() > 0) {
+                if (new WebElementUtils(driver).isPresentNow(By.className("error-message"))) {
                     String errorText = driver.findElement(By.className("error-message")).getText();
                     LogUtil.error("Login failed. Error message: " + errorText);
                     context.setTestFailed("Login failed: " + errorText);
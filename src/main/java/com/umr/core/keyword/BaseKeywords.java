@@ -1,6 +1,7 @@
 package com.umr.core.keyword;
 
 import com.umr.core.DriverManager;
+import com.umr.core.PageMetrics;
 import com.umr.core.TestContext;
 import com.umr.core.annotation.Keyword;
 import com.umr.core.config.ConfigLoader;
@@ -8,6 +9,7 @@ import com.umr.core.factory.PageFactory;
 import com.umr.reporting.ReportManager;
 import com.umr.utils.LogUtil;
 import com.umr.utils.ScreenshotUtils;
+import com.umr.utils.WebElementUtils;
 
 import org.openqa.selenium.WebDriver;
 
@@ -91,6 +93,7 @@ public class BaseKeywords {
             driver.get(url);
             LogUtil.info("Navigated to URL: " + url);
             ReportManager.logPass(context.getTestId(), context.getTestName(), "Navigated to URL: " + url);
+            PageMetrics.capture(context, "Navigate to");
 
             // Capture screenshot
             String screenshotPath = ScreenshotUtils.takeScreenshot("Navigate_To_" + url.replaceAll("[^a-zA-Z0-9]", "_"));
@@ -353,6 +356,35 @@ public class BaseKeywords {
         }
     }
 
+    /**
+     * Waits until the application is idle (Angular stable, no spinners or blocking overlays).
+     * Returns as soon as the application is idle; a timeout is logged but does not fail the test.
+     *
+     * @param context The test context
+     * @return True if successful, false otherwise
+     */
+    @Keyword("WAIT_FOR_APP_STABLE")
+    public boolean waitForAppStable(TestContext context) {
+        LogUtil.info("Executing WAIT_FOR_APP_STABLE keyword");
+        ReportManager.logInfo(context.getTestId(), context.getTestName(), "Executing WAIT_FOR_APP_STABLE keyword");
+
+        try {
+            if (new WebElementUtils(context.getDriver()).waitForAppStable()) {
+                ReportManager.logPass(context.getTestId(), context.getTestName(), "Application is stable");
+            } else {
+                ReportManager.logWarning(context.getTestId(), context.getTestName(),
+                        "Application did not become stable in time. Continuing anyway.");
+            }
+            return true;
+        } catch (Exception e) {
+            LogUtil.error("Failed to wait for application stability", e);
+            context.setTestFailed("Failed to wait for application stability: " + e.getMessage());
+            ReportManager.logFail(context.getTestId(), context.getTestName(),
+                    "Failed to wait for application stability: " + e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * Waits for a specified number of seconds.
      *
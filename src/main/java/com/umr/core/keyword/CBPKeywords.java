@@ -1,11 +1,22 @@
 package com.umr.core.keyword;
 
+import com.umr.core.AdaptiveLocator;
+import com.umr.core.BrowserMetrics;
 import com.umr.core.DriverManager;
+import com.umr.core.LocatorStats;
+import com.umr.core.LoginSessionCache;
+import com.umr.core.PageMetrics;
 import com.umr.core.TestContext;
 import com.umr.core.annotation.Keyword;
+import com.umr.core.config.ConfigLoader;
 import com.umr.reporting.ReportManager;
+import com.umr.utils.FormFiller;
 import com.umr.utils.LogUtil;
 import com.umr.utils.ScreenshotUtils;
+import com.umr.utils.ScriptRegistry;
+import com.umr.utils.SleepAuditor;
+import com.umr.utils.ToastMonitor;
+import com.umr.utils.WebElementUtils;
 
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -14,15 +25,24 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * CBP (Customs and Border Protection) specific keywords for automation testing.
  * Contains keywords for CBP login, traveler selection, and 1-day lookout creation.
  */
 public class CBPKeywords {
+    private static final String GRID_TABLE_LOCATOR = "grid-table";
+    private static final List<String> GRID_TABLE_STRATEGIES =
+            Arrays.asList("section sibling", "parent component", "nearby ancestor", "nearest below");
+
+    private final ConfigLoader config = ConfigLoader.getInstance();
 
     @Keyword("OPEN_BROWSER")
     public boolean openBrowser(TestContext context) {
@@ -67,16 +87,25 @@ public class CBPKeywords {
         try {
             WebDriver driver = context.getDriver();
             String url = "https://tf-sat.cbp.dhs.gov/pax/LoginPage";
+            By loginButtonLocator = By.id("login-kerberos-btn");
+
+            // Reuse the authenticated session of an earlier login when one is available
+            if (LoginSessionCache.restore(driver, url, loginButtonLocator)) {
+                ReportManager.logPass(context.getTestId(), context.getTestName(),
+                        "CBP login restored from session snapshot: " + driver.getCurrentUrl());
+                return true;
+            }
 
             // Navigate to CBP login page
-            LogUtil.info("Navigating to CBP login page: " + url);
-            driver.get(url);
+            LogUtil.info(() -> "Navigating to CBP login page: " + url);
+            BrowserMetrics.timedGet(driver, url);
             ReportManager.logInfo(context.getTestId(), context.getTestName(), "Navigated to CBP login page: " + url);
 
             // Wait for page to load completely
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
             wait.until(webDriver -> ((JavascriptExecutor) webDriver)
                     .executeScript("return document.readyState").equals("complete"));
+            PageMetrics.capture(context, "CBP login");
 
             // Take screenshot after navigation
             String initialScreenshotPath = ScreenshotUtils.takeScreenshot("CBP_Login_Page_Initial");
@@ -86,8 +115,6 @@ public class CBPKeywords {
             }
 
             // Wait for and click the CBP Users login button
-            By loginButtonLocator = By.id("login-kerberos-btn");
-
             LogUtil.info("Waiting for CBP Users login button to be clickable");
             WebElement loginButton = wait.until(ExpectedConditions.elementToBeClickable(loginButtonLocator));
 
@@ -102,11 +129,14 @@ public class CBPKeywords {
                         clickScreenshotPath, "Login Button Clicked");
             }
 
-            // Wait a moment for any redirect or authentication process to begin
+            // Wait for the SSO redirects to bring us back from the login page, then keep the session for reuse
             try {
-                Thread.sleep(2000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+                wait.until(webDriver -> !webDriver.getCurrentUrl().contains("LoginPage"));
+                wait.until(webDriver -> ((JavascriptExecutor) webDriver)
+                        .executeScript("return document.readyState").equals("complete"));
+                LoginSessionCache.capture(driver);
+            } catch (TimeoutException e) {
+                LogUtil.warn("Still on the login page after clicking login. Session snapshot not captured.");
             }
 
             LogUtil.info("CBP login process initiated successfully");
@@ -143,15 +173,16 @@ public class CBPKeywords {
             String url = "https://tf-sat.cbp.dhs.gov/uv/hotlists/ntc/traveler";
 
             // Step 1: Navigate to traveler page
-            LogUtil.info("Navigating to traveler page: " + url);
-            driver.get(url);
+            LogUtil.info(() -> "Navigating to traveler page: " + url);
+            BrowserMetrics.timedGet(driver, url);
             ReportManager.logInfo(context.getTestId(), context.getTestName(), "Navigated to traveler page: " + url);
 
             // Wait for page to load completely
             wait.until(webDriver -> ((JavascriptExecutor) webDriver)
                     .executeScript("return document.readyState").equals("complete"));
 
-            Thread.sleep(5000);
+            waitForNetworkIdle(driver, 5000);
+            PageMetrics.capture(context, "Traveler list");
 
             // Step 2: Set filters (Departure Time - NOW and Not Reviewed)
             LogUtil.info("Setting filters: Departure Time - NOW and Not Reviewed");
@@ -178,8 +209,8 @@ public class CBPKeywords {
                             "return notReviewedCheckbox && notReviewedCheckbox.checked;"
             );
 
-            LogUtil.info("Filters set - Departure Time: " + departureTimeSet + ", Not Reviewed: " + notReviewedSet);
-            Thread.sleep(3000);
+            LogUtil.info(() -> "Filters set - Departure Time: " + departureTimeSet + ", Not Reviewed: " + notReviewedSet);
+            SleepAuditor.sleep(3000);
 
             // Step 3: Click on the first traveler row
             LogUtil.info("Clicking on first traveler row");
@@ -188,11 +219,11 @@ public class CBPKeywords {
                     By.cssSelector("tr.highlightable.row-bold")));
 
             js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", travelerRow);
-            Thread.sleep(1000);
+            SleepAuditor.sleep(1000);
             travelerRow.click();
 
             LogUtil.info("Selected first traveler");
-            Thread.sleep(5000);
+            SleepAuditor.sleep(5000);
 
             // Step 4: Click on action dropdown
             LogUtil.info("Opening action dropdown");
@@ -201,7 +232,7 @@ public class CBPKeywords {
                     By.cssSelector("button.mat-menu-trigger[aria-haspopup='menu']")));
 
             js.executeScript("arguments[0].click();", actionDropdown);
-            Thread.sleep(2000);
+            SleepAuditor.sleep(2000);
 
             // Step 5: Click "Create 1-Day Lookout"
             LogUtil.info("Clicking Create 1-Day Lookout");
@@ -211,13 +242,13 @@ public class CBPKeywords {
 
             // Store original window handle before clicking
             String originalWindow = driver.getWindowHandle();
-            LogUtil.info("Original window handle: " + originalWindow);
+            LogUtil.info(() -> "Original window handle: " + originalWindow);
 
             create1DayButton.click();
             LogUtil.info("Clicked Create 1-Day Lookout button");
 
             // Step 6: Switch to popup window
-            Thread.sleep(5000);
+            SleepAuditor.sleep(5000);
 
             boolean windowSwitched = false;
             if (driver.getWindowHandles().size() > 1) {
@@ -225,7 +256,7 @@ public class CBPKeywords {
                 for (String windowHandle : driver.getWindowHandles()) {
                     if (!windowHandle.equals(originalWindow)) {
                         driver.switchTo().window(windowHandle);
-                        LogUtil.info("Switched to popup window: " + windowHandle);
+                        LogUtil.info(() -> "Switched to popup window: " + windowHandle);
                         windowSwitched = true;
                         break;
                     }
@@ -236,8 +267,11 @@ public class CBPKeywords {
                 LogUtil.info("No new window found, continuing on same window");
             }
 
-            Thread.sleep(5000);
+            SleepAuditor.sleep(5000);
             LogUtil.info("Current URL after window switch: " + driver.getCurrentUrl());
+            if (windowSwitched) {
+                PageMetrics.capture(context, "1-Day Lookout form");
+            }
 
             // Take screenshot of the 1-day lookout form
             String formScreenshotPath = ScreenshotUtils.takeScreenshot("1Day_Lookout_Form_Opened");
@@ -260,10 +294,10 @@ public class CBPKeywords {
             LogUtil.info("=== SUBMITTING FORM AND CAPTURING TECS ID ===");
             ReportManager.logInfo(context.getTestId(), context.getTestName(), "Submitting 1-Day Lookout form");
 
-            String tecsId = submitFormAndCaptureTECSID(js, context);
+            String tecsId = submitFormAndCaptureTECSID(context);
 
             if (tecsId != null && !tecsId.isEmpty()) {
-                LogUtil.info("🎯 SUCCESS: TECS ID captured successfully: " + tecsId);
+                LogUtil.info(() -> "🎯 SUCCESS: TECS ID captured successfully: " + tecsId);
                 ReportManager.logPass(context.getTestId(), context.getTestName(),
                         "✅ Form submitted successfully! TECS ID Generated: " + tecsId);
 
@@ -280,7 +314,7 @@ public class CBPKeywords {
 
                 // Log TECS ID in multiple places for visibility
                 LogUtil.info("=".repeat(60));
-                LogUtil.info("🎯 TECS ID SUCCESSFULLY CAPTURED: " + tecsId);
+                LogUtil.info(() -> "🎯 TECS ID SUCCESSFULLY CAPTURED: " + tecsId);
                 LogUtil.info("=".repeat(60));
 
             } else {
@@ -337,16 +371,13 @@ public class CBPKeywords {
             WebDriver driver = context.getDriver();
             String url = "https://sasq-sat.cbp.dhs.gov/person?query=person";
 
-            LogUtil.info("Navigating to person search page: " + url);
-            driver.get(url);
+            LogUtil.info(() -> "Navigating to person search page: " + url);
+            BrowserMetrics.timedGet(driver, url);
             ReportManager.logInfo(context.getTestId(), context.getTestName(), "Navigated to person search page: " + url);
 
-            // Wait for page to load completely
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(30));
-            wait.until(webDriver -> ((JavascriptExecutor) webDriver)
-                    .executeScript("return document.readyState").equals("complete"));
-
-            Thread.sleep(3000);
+            // Wait until the search page has loaded its data
+            new WebElementUtils(driver).waitForAppStable();
+            PageMetrics.capture(context, "Person search");
 
             // Take screenshot
             String screenshotPath = ScreenshotUtils.takeScreenshot("Person_Search_Page_Loaded");
@@ -396,50 +427,15 @@ public class CBPKeywords {
             ReportManager.logInfo(context.getTestId(), context.getTestName(),
                     "Searching for person: " + lastName + ", " + firstName + " " + dateOfBirth);
 
-            // Fill Last Name using specific selectors
-            Boolean lastNameResult = (Boolean) js.executeScript(
-                    "var lastNameInput = document.querySelector('#lastName');" +
-                            "if (lastNameInput) {" +
-                            "  lastNameInput.focus();" +
-                            "  lastNameInput.value = arguments[0];" +
-                            "  lastNameInput.dispatchEvent(new Event('input', {bubbles: true}));" +
-                            "  lastNameInput.dispatchEvent(new Event('change', {bubbles: true}));" +
-                            "  return true;" +
-                            "}" +
-                            "return false;", lastName
-            );
-
-            Thread.sleep(1000);
-
-            // Fill First Name using specific selectors
-            Boolean firstNameResult = (Boolean) js.executeScript(
-                    "var firstNameInput = document.querySelector('#firstName');" +
-                            "if (firstNameInput) {" +
-                            "  firstNameInput.focus();" +
-                            "  firstNameInput.value = arguments[0];" +
-                            "  firstNameInput.dispatchEvent(new Event('input', {bubbles: true}));" +
-                            "  firstNameInput.dispatchEvent(new Event('change', {bubbles: true}));" +
-                            "  return true;" +
-                            "}" +
-                            "return false;", firstName
-            );
-
-            Thread.sleep(1000);
-
-            // Fill Date of Birth using same simple approach as name fields
-            Boolean dobResult = (Boolean) js.executeScript(
-                    "var dobInput = document.querySelector('#dob');" +
-                            "if (dobInput) {" +
-                            "  dobInput.focus();" +
-                            "  dobInput.value = arguments[0];" +
-                            "  dobInput.dispatchEvent(new Event('input', {bubbles: true}));" +
-                            "  dobInput.dispatchEvent(new Event('change', {bubbles: true}));" +
-                            "  return true;" +
-                            "}" +
-                            "return false;", dateOfBirth
-            );
-
-            Thread.sleep(2000);
+            // Fill all search fields in one round trip
+            LinkedHashMap<String, String> searchFields = new LinkedHashMap<>();
+            searchFields.put("css:#lastName", lastName);
+            searchFields.put("css:#firstName", firstName);
+            searchFields.put("css:#dob", dateOfBirth);
+            FormFiller.Result fillResult = FormFiller.fill(driver, searchFields);
+            if (!fillResult.isSuccessful()) {
+                LogUtil.warn("Not all search fields were filled: " + fillResult);
+            }
 
             Boolean searchClicked = (Boolean) js.executeScript(
                     "var buttons = document.querySelectorAll('button.search-btn');" +
@@ -453,7 +449,7 @@ public class CBPKeywords {
                             "return false;"
             );
 
-            Thread.sleep(5000);
+            SleepAuditor.sleep(5000);
 
             // Take screenshot after search
             String searchScreenshotPath = ScreenshotUtils.takeScreenshot("Person_Search_Results");
@@ -462,8 +458,7 @@ public class CBPKeywords {
                         searchScreenshotPath, "Person Search Results");
             }
 
-            LogUtil.info("Person search executed - LastName: " + lastNameResult +
-                    ", FirstName: " + firstNameResult + ", DOB: " + dobResult + ", Search: " + searchClicked);
+            LogUtil.info(() -> "Person search executed - Fields: " + fillResult + ", Search: " + searchClicked);
             ReportManager.logPass(context.getTestId(), context.getTestName(),
                     "Person search executed successfully for: " + lastName + ", " + firstName + " " + dateOfBirth);
 
@@ -501,142 +496,20 @@ public class CBPKeywords {
             ReportManager.logInfo(context.getTestId(), context.getTestName(),
                     "Looking for grid with title: '" + gridTitle + "' and will select any available checkbox");
 
-            Thread.sleep(3000);
-
-            // Step 1: Find the grid section using dynamic XPath
-            String gridTitleXPath = "//span[@class='sq-grid-title' and contains(text(), '" + gridTitle + "')]";
-
-            LogUtil.info("Searching for grid with XPath: " + gridTitleXPath);
+            // Steps 1-5: Resolve grid title -> table -> first available data checkbox in one browser call,
+            // polling until the grid has rendered
+            Map<String, Object> located = locateGrid(driver, gridTitle, wait);
+            LogUtil.info("Grid lookup for '" + gridTitle + "' - strategy: " + located.get("strategy") +
+                    ", tables on page: " + located.get("tableCount") + ", diagnostics: " + located.get("diagnostics"));
 
-            WebElement gridTitleElement = null;
-            try {
-                gridTitleElement = wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath(gridTitleXPath)));
-                LogUtil.info("Found grid title element: " + gridTitleElement.getText());
-            } catch (Exception e) {
+            if (located.get("title") == null) {
                 LogUtil.error("Grid title not found: " + gridTitle);
                 context.setTestFailed("Grid title not found: " + gridTitle);
                 ReportManager.logFail(context.getTestId(), context.getTestName(), "Grid title not found: " + gridTitle);
                 return false;
             }
 
-            // Step 2: Scroll to the grid section
-            LogUtil.info("Scrolling to grid section");
-            js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", gridTitleElement);
-            Thread.sleep(2000);
-
-            // Step 3: Find the table using a more robust approach that works for any grid
-            WebElement targetTable = null;
-
-            LogUtil.info("Using generic approach to find table for grid: " + gridTitle);
-
-            try {
-                // Strategy 1: Find the immediate container of the grid title and look for table within it
-                WebElement gridTitleContainer = gridTitleElement.findElement(By.xpath("./ancestor::div[contains(@class, 'section-header')]"));
-                WebElement gridSection = gridTitleContainer.findElement(By.xpath("./following-sibling::div[.//table][1]"));
-                targetTable = gridSection.findElement(By.xpath(".//table"));
-                LogUtil.info("Found table using Strategy 1 - following sibling approach");
-
-            } catch (Exception e1) {
-                LogUtil.info("Strategy 1 failed, trying Strategy 2: " + e1.getMessage());
-
-                try {
-                    // Strategy 2: Find the parent component and look for any table within it
-                    WebElement parentComponent = gridTitleElement.findElement(By.xpath("./ancestor::*[starts-with(name(), 'app-micro')]"));
-                    targetTable = parentComponent.findElement(By.xpath(".//table[contains(@class, 'mat-sort')]"));
-                    LogUtil.info("Found table using Strategy 2 - parent component approach");
-
-                } catch (Exception e2) {
-                    LogUtil.info("Strategy 2 failed, trying Strategy 3: " + e2.getMessage());
-
-                    try {
-                        // Strategy 3: Look for table that comes after our grid title in the DOM
-                        String tableXPath = "//span[@class='sq-grid-title' and contains(text(), '" + gridTitle + "')]/ancestor::div[1]/following-sibling::*//table[contains(@class, 'mat-sort')] | " +
-                                "//span[@class='sq-grid-title' and contains(text(), '" + gridTitle + "')]/ancestor::div[2]/following-sibling::*//table[contains(@class, 'mat-sort')] | " +
-                                "//span[@class='sq-grid-title' and contains(text(), '" + gridTitle + "')]/ancestor::div[3]//table[contains(@class, 'mat-sort')]";
-
-                        List<WebElement> possibleTables = driver.findElements(By.xpath(tableXPath));
-                        LogUtil.info("Strategy 3 found " + possibleTables.size() + " possible tables");
-
-                        // Find the first table that has actual data checkboxes
-                        for (WebElement table : possibleTables) {
-                            List<WebElement> checkboxes = table.findElements(By.xpath(".//input[@type='checkbox' and contains(@class, 'grid-checkbox')]"));
-                            LogUtil.info("Checking table with " + checkboxes.size() + " checkboxes");
-
-                            if (checkboxes.size() > 1) { // Header + at least one data row
-                                targetTable = table;
-                                LogUtil.info("Selected table with " + checkboxes.size() + " checkboxes");
-                                break;
-                            }
-                        }
-
-                    } catch (Exception e3) {
-                        LogUtil.error("All strategies failed: " + e3.getMessage());
-                    }
-                }
-            }
-
-            // Strategy 4: Last resort - use distance-based approach
-            if (targetTable == null) {
-                LogUtil.info("Trying Strategy 4 - distance-based approach");
-
-                try {
-                    // Find all tables on the page
-                    List<WebElement> allTables = driver.findElements(By.xpath("//table[contains(@class, 'mat-sort')]"));
-                    LogUtil.info("Found " + allTables.size() + " total tables on page");
-
-                    // Find the table closest to our grid title
-                    WebElement closestTable = null;
-                    int minDistance = Integer.MAX_VALUE;
-
-                    for (WebElement table : allTables) {
-                        try {
-                            // Calculate approximate distance between grid title and table
-                            int titleY = gridTitleElement.getLocation().getY();
-                            int tableY = table.getLocation().getY();
-                            int distance = Math.abs(tableY - titleY);
-
-                            // Only consider tables that come after the title (positive distance with reasonable range)
-                            if (tableY > titleY && distance < 1000 && distance < minDistance) {
-                                // Verify this table has data checkboxes
-                                List<WebElement> checkboxes = table.findElements(By.xpath(".//input[@type='checkbox' and contains(@class, 'grid-checkbox')]"));
-                                if (checkboxes.size() > 1) {
-                                    closestTable = table;
-                                    minDistance = distance;
-                                    LogUtil.info("Found closer table at distance " + distance + " with " + checkboxes.size() + " checkboxes");
-                                }
-                            }
-                        } catch (Exception e) {
-                            LogUtil.debug("Error checking table distance: " + e.getMessage());
-                        }
-                    }
-
-                    if (closestTable != null) {
-                        targetTable = closestTable;
-                        LogUtil.info("Selected closest table using Strategy 4");
-                    }
-
-                } catch (Exception e4) {
-                    LogUtil.error("Strategy 4 also failed: " + e4.getMessage());
-                }
-            }
-
-            // Verify we found a table and it's the right one
-            if (targetTable != null) {
-                String tableId = targetTable.getAttribute("id");
-                String tableClass = targetTable.getAttribute("class");
-                LogUtil.info("Found table - ID: " + tableId + ", Class: " + tableClass);
-
-                // Take verification screenshot
-                js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", targetTable);
-                Thread.sleep(1500);
-
-                String verificationScreenshotPath = ScreenshotUtils.takeScreenshot("Table_Found_" + gridTitle.replace(" ", "_"));
-                if (verificationScreenshotPath != null) {
-                    ReportManager.attachScreenshot(context.getTestId(), context.getTestName(),
-                            verificationScreenshotPath, "🎯 FOUND: Table for " + gridTitle + " (ID: " + tableId + ")");
-                }
-            }
-
+            WebElement targetTable = (WebElement) located.get("table");
             if (targetTable == null) {
                 LogUtil.error("Could not find table for grid: " + gridTitle + " using any strategy");
                 context.setTestFailed("Could not find table for grid: " + gridTitle);
@@ -651,42 +524,22 @@ public class CBPKeywords {
                 return false;
             }
 
-            // Step 4: Find all checkboxes specifically in THIS table only
-            List<WebElement> allCheckboxes = targetTable.findElements(By.xpath(".//input[@type='checkbox']"));
-            if (allCheckboxes.size() <= 1) {
-                LogUtil.error("No data checkboxes found in " + gridTitle + " grid (only header or none). Found " + allCheckboxes.size() + " checkboxes total.");
-                context.setTestFailed("No data checkboxes found in " + gridTitle + " grid");
-                ReportManager.logFail(context.getTestId(), context.getTestName(), "No data checkboxes found in " + gridTitle + " grid");
+            String tableId = (String) located.get("tableId");
+            LogUtil.info(() -> "Found table - ID: " + tableId + ", Checkboxes: " + located.get("checkboxCount"));
 
-                // Take screenshot for debugging
-                String debugScreenshotPath = ScreenshotUtils.takeScreenshot("Debug_No_Data_Checkboxes_" + gridTitle.replace(" ", "_"));
-                if (debugScreenshotPath != null) {
-                    ReportManager.attachScreenshot(context.getTestId(), context.getTestName(),
-                            debugScreenshotPath, "🔍 DEBUG: No data checkboxes in " + gridTitle + " grid");
-                }
-                return false;
-            }
-
-            // Step 5: Find the first available data checkbox (skip header at index 0)
-            WebElement selectedCheckbox = null;
-            WebElement selectedRow = null;
-
-            LogUtil.info("Looking for available checkboxes in " + gridTitle + " grid table...");
-
-            for (int i = 1; i < allCheckboxes.size(); i++) {
-                WebElement checkbox = allCheckboxes.get(i);
-                WebElement row = checkbox.findElement(By.xpath("./ancestor::tr[1]"));
-
-                LogUtil.info("Checking checkbox " + i + " - isDisplayed: " + checkbox.isDisplayed() + ", isEnabled: " + checkbox.isEnabled());
+            // Take verification screenshot
+            js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", targetTable);
+            SleepAuditor.sleep(1500);
 
-                if (checkbox.isDisplayed() && checkbox.isEnabled()) {
-                    LogUtil.info("Found available checkbox at row " + i + " in " + gridTitle + " grid");
-                    selectedCheckbox = checkbox;
-                    selectedRow = row;
-                    break;
-                }
+            String verificationScreenshotPath = ScreenshotUtils.takeScreenshot("Table_Found_" + gridTitle.replace(" ", "_"));
+            if (verificationScreenshotPath != null) {
+                ReportManager.attachScreenshot(context.getTestId(), context.getTestName(),
+                        verificationScreenshotPath, "🎯 FOUND: Table for " + gridTitle + " (ID: " + tableId + ")");
             }
 
+            WebElement selectedCheckbox = (WebElement) located.get("checkbox");
+            WebElement selectedRow = (WebElement) located.get("row");
+
             if (selectedCheckbox == null) {
                 LogUtil.error("No available checkbox found in " + gridTitle + " grid table");
                 context.setTestFailed("No available checkbox found in " + gridTitle + " grid");
@@ -703,7 +556,7 @@ public class CBPKeywords {
 
             // Step 7: Scroll to and highlight the checkbox/row - ENSURE WE STAY ON THIS TABLE
             js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", selectedCheckbox);
-            Thread.sleep(1000);
+            SleepAuditor.sleep(1000);
 
             // Double-check that we're still looking at the right table after scroll
             String currentTableId = targetTable.getAttribute("id");
@@ -711,11 +564,11 @@ public class CBPKeywords {
 
             // Force scroll to the specific table again to be sure
             js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", targetTable);
-            Thread.sleep(1000);
+            SleepAuditor.sleep(1000);
 
             // Then scroll to the checkbox within that table
             js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", selectedCheckbox);
-            Thread.sleep(1000);
+            SleepAuditor.sleep(1000);
 
             // Apply highlighting using JavaScript
             String originalRowStyle = selectedRow.getAttribute("style");
@@ -753,7 +606,7 @@ public class CBPKeywords {
                     selectedCheckbox
             );
 
-            Thread.sleep(2000); // Wait for highlighting to be visible
+            SleepAuditor.sleep(2000); // Wait for highlighting to be visible
 
             // Take screenshot with highlighting
             String highlightedScreenshotPath = ScreenshotUtils.takeScreenshot("Checkbox_HIGHLIGHTED_" + gridTitle.replace(" ", "_"));
@@ -796,7 +649,7 @@ public class CBPKeywords {
                 js.executeScript("arguments[0].removeAttribute('style');", selectedCheckbox);
             }
 
-            Thread.sleep(1000); // Wait for cleanup to complete
+            SleepAuditor.sleep(1000); // Wait for cleanup to complete
 
             // Take final screenshot after cleanup
             String finalScreenshotPath = ScreenshotUtils.takeScreenshot("Checkbox_Selected_Final_" + gridTitle.replace(" ", "_"));
@@ -834,6 +687,51 @@ public class CBPKeywords {
         }
     }
 
+    /**
+     * Waits until the page's requests have settled. Where network requests are not tracked
+     * (non-Chromium browsers or network.idle.enabled=false) it pauses for the given time instead.
+     */
+    private void waitForNetworkIdle(WebDriver driver, long fallbackMillis) throws InterruptedException {
+        WebElementUtils elementUtils = new WebElementUtils(driver);
+        if (elementUtils.isNetworkTracked()) {
+            elementUtils.waitForNetworkIdle();
+        } else {
+            SleepAuditor.sleep(fallbackMillis);
+        }
+    }
+
+    /**
+     * Runs the grid locator until it resolves a data checkbox or the wait times out.
+     * Table strategies are tried in the order of their observed success; the attempts of the final lookup
+     * are recorded in the locator statistics (earlier polls only show that the grid was still rendering).
+     * Returns the last lookup result, which tells how far the lookup got.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> locateGrid(WebDriver driver, String gridTitle, WebDriverWait wait) {
+        List<String> order = LocatorStats.order(GRID_TABLE_LOCATOR, GRID_TABLE_STRATEGIES);
+        AtomicReference<Map<String, Object>> lastResult = new AtomicReference<>();
+        try {
+            wait.until(webDriver -> {
+                Map<String, Object> result =
+                        (Map<String, Object>) ScriptRegistry.execute(webDriver, "grid-locate", gridTitle, order);
+                lastResult.set(result);
+                return result.get("checkbox") != null;
+            });
+        } catch (TimeoutException e) {
+            LogUtil.warn("Grid '" + gridTitle + "' not fully resolved within timeout");
+        }
+        if (lastResult.get() == null) {
+            lastResult.set((Map<String, Object>) ScriptRegistry.execute(driver, "grid-locate", gridTitle, order));
+        }
+
+        for (Object attempt : (List<Object>) lastResult.get().get("attempts")) {
+            Map<String, Object> values = (Map<String, Object>) attempt;
+            LocatorStats.record(GRID_TABLE_LOCATOR, (String) values.get("strategy"),
+                    Boolean.TRUE.equals(values.get("hit")), ((Number) values.get("millis")).longValue());
+        }
+        return lastResult.get();
+    }
+
     @Keyword("SELECT_PXSEARCH")
     public boolean selectPxSearch(TestContext context) {
         LogUtil.info("Executing SELECT_PXSEARCH keyword");
@@ -844,56 +742,18 @@ public class CBPKeywords {
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(30));
             JavascriptExecutor js = (JavascriptExecutor) driver;
 
-            Thread.sleep(3000);
-
-            // Look for PX results table and select the first checkbox
-            Boolean pxCheckboxSelected = (Boolean) js.executeScript(
-                    "try {" +
-                            "  var pxTable = document.querySelector('#px3-table');" +
-                            "  if (pxTable) {" +
-                            "    var checkboxes = pxTable.querySelectorAll('input[type=\"checkbox\"].grid-checkbox');" +
-                            "    if (checkboxes.length > 1) {" +  // index 0 is the header checkbox
-                            "      var checkbox = checkboxes[1];" +
-                            "      checkbox.scrollIntoView({behavior: 'smooth', block: 'center'});" +
-                            "      checkbox.focus();" +
-                            "      checkbox.checked = true;" +
-                            "      checkbox.dispatchEvent(new Event('input', { bubbles: true }));" +
-                            "      checkbox.dispatchEvent(new Event('change', { bubbles: true }));" +
-                            "      checkbox.click();" +
-                            "      return true;" +
-                            "    }" +
-                            "  }" +
-                            "} catch (e) { console.error('JS Error:', e); }" +
-                            "return false;"
-            );
-
-
-            if (!pxCheckboxSelected) {
-                // Alternative approach - look for any PX result checkbox
-                pxCheckboxSelected = (Boolean) js.executeScript(
-                        "var allCheckboxes = document.querySelectorAll('input[type=\"checkbox\"].grid-checkbox');" +
-                                "for (var i = 0; i < allCheckboxes.length; i++) {" +
-                                "  var row = allCheckboxes[i].closest('tr');" +
-                                "  if (row && row.textContent.toLowerCase().includes('wood')) {" +
-                                "    allCheckboxes[i].scrollIntoView({behavior: 'smooth', block: 'center'});" +
-                                "    allCheckboxes[i].checked = true;" +
-                                "    allCheckboxes[i].dispatchEvent(new Event('change', {bubbles: true}));" +
-                                "    allCheckboxes[i].click();" +
-                                "    return true;" +
-                                "  }" +
-                                "}" +
-                                "// If no specific Wood result found, select first available data checkbox" +
-                                "if (allCheckboxes.length > 1) {" +
-                                "  allCheckboxes[1].checked = true;" +
-                                "  allCheckboxes[1].dispatchEvent(new Event('change', {bubbles: true}));" +
-                                "  allCheckboxes[1].click();" +
-                                "  return true;" +
-                                "}" +
-                                "return false;"
-                );
+            // Wait for result rows (header checkbox + at least one data row) instead of a fixed delay
+            try {
+                wait.until(webDriver -> (Boolean) ((JavascriptExecutor) webDriver).executeScript(
+                        "return document.querySelectorAll('input[type=\"checkbox\"].grid-checkbox').length > 1;"));
+            } catch (TimeoutException e) {
+                LogUtil.warn("No PX result rows rendered within timeout");
             }
 
-            Thread.sleep(2000);
+            // Look for PX results table and select the first checkbox, falling back to a matching result row
+            Boolean pxCheckboxSelected = (Boolean) ScriptRegistry.execute(driver, "px-table-select", "wood");
+
+            SleepAuditor.sleep(2000);
 
             // Take screenshot after selection
             String screenshotPath = ScreenshotUtils.takeScreenshot("PxSearch_Record_Selected");
@@ -940,12 +800,12 @@ public class CBPKeywords {
             LogUtil.info("Looking for Create UPAX Event button");
             ReportManager.logInfo(context.getTestId(), context.getTestName(), "Looking for Create UPAX Event button");
 
-            Thread.sleep(2000);
+            SleepAuditor.sleep(2000);
 
             // Store original window handle before clicking
             String originalWindow = driver.getWindowHandle();
             context.addToContext("ORIGINAL_WINDOW", originalWindow);
-            LogUtil.info("Original window handle stored: " + originalWindow);
+            LogUtil.info(() -> "Original window handle stored: " + originalWindow);
 
             // Look for "Create UPAX Event" button using specific class and text
             Boolean createUpaxClicked = (Boolean) js.executeScript(
@@ -977,7 +837,7 @@ public class CBPKeywords {
                 );
             }
 
-            Thread.sleep(3000);
+            SleepAuditor.sleep(3000);
 
             // Take screenshot after clicking
             String screenshotPath = ScreenshotUtils.takeScreenshot("Create_UPAX_Event_Clicked");
@@ -1021,7 +881,7 @@ public class CBPKeywords {
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(30));
             JavascriptExecutor js = (JavascriptExecutor) driver;
 
-            Thread.sleep(3000);
+            SleepAuditor.sleep(3000);
 
             // Click on "Existing Event" tab using specific ID
             Boolean existingTabClicked = (Boolean) js.executeScript(
@@ -1048,7 +908,7 @@ public class CBPKeywords {
                 );
             }
 
-            Thread.sleep(2000);
+            SleepAuditor.sleep(2000);
 
             // Take screenshot
             String screenshotPath = ScreenshotUtils.takeScreenshot("Existing_Event_Tab_Selected");
@@ -1098,7 +958,7 @@ public class CBPKeywords {
             LogUtil.info("Entering event number: " + eventNumber);
             ReportManager.logInfo(context.getTestId(), context.getTestName(), "Entering event number: " + eventNumber);
 
-            Thread.sleep(2000);
+            SleepAuditor.sleep(2000);
 
             // Fill event number in search field using specific ID
             Boolean eventNumberEntered = (Boolean) js.executeScript(
@@ -1115,7 +975,7 @@ public class CBPKeywords {
                             "return false;", eventNumber
             );
 
-            Thread.sleep(3000);
+            SleepAuditor.sleep(3000);
 
             if (eventNumberEntered) {
                 // Select the radio button for the specific event
@@ -1131,7 +991,7 @@ public class CBPKeywords {
                                 "return false;", eventNumber
                 );
 
-                Thread.sleep(2000);
+                SleepAuditor.sleep(2000);
 
                 // Take screenshot
                 String screenshotPath = ScreenshotUtils.takeScreenshot("Event_Number_Selected");
@@ -1182,7 +1042,7 @@ public class CBPKeywords {
             WebDriver driver = context.getDriver();
             JavascriptExecutor js = (JavascriptExecutor) driver;
 
-            Thread.sleep(3000);
+            SleepAuditor.sleep(3000);
 
             // Click on "New Person" tab using specific ID
             Boolean newPersonTabClicked = (Boolean) js.executeScript(
@@ -1209,7 +1069,7 @@ public class CBPKeywords {
                 );
             }
 
-            Thread.sleep(2000);
+            SleepAuditor.sleep(2000);
 
             // Take screenshot
             String screenshotPath = ScreenshotUtils.takeScreenshot("New_Person_Tab_Selected");
@@ -1259,7 +1119,7 @@ public class CBPKeywords {
             LogUtil.info("Setting person type and importing to event");
             ReportManager.logInfo(context.getTestId(), context.getTestName(), "Setting person type and importing to event");
 
-            Thread.sleep(2000);
+            SleepAuditor.sleep(2000);
 
             // Verify that name and DOB fields are prepopulated (just log what we see)
             String prepopulatedInfo = (String) js.executeScript(
@@ -1273,7 +1133,7 @@ public class CBPKeywords {
                             "return info.join(', ');"
             );
 
-            LogUtil.info("Prepopulated fields: " + prepopulatedInfo);
+            LogUtil.info(() -> "Prepopulated fields: " + prepopulatedInfo);
             ReportManager.logInfo(context.getTestId(), context.getTestName(), "Prepopulated fields: " + prepopulatedInfo);
 
             // Select person type from dropdown using specific ID
@@ -1287,7 +1147,7 @@ public class CBPKeywords {
                             "return false;", personType
             );
 
-            Thread.sleep(2000);
+            SleepAuditor.sleep(2000);
 
             // Click Import button using specific ID
             Boolean importClicked = (Boolean) js.executeScript(
@@ -1300,7 +1160,7 @@ public class CBPKeywords {
                             "return false;"
             );
 
-            Thread.sleep(5000); // Wait for import to complete
+            waitForNetworkIdle(driver, 5000); // Wait for import to complete
 
             // Take screenshot
             String screenshotPath = ScreenshotUtils.takeScreenshot("Person_Type_Set_And_Imported");
@@ -1347,7 +1207,7 @@ public class CBPKeywords {
             WebDriver driver = context.getDriver();
             JavascriptExecutor js = (JavascriptExecutor) driver;
 
-            Thread.sleep(2000);
+            SleepAuditor.sleep(2000);
 
             // Get expected data from test context
             String expectedLastName = context.getTestDataAsString("LastName");
@@ -1398,7 +1258,7 @@ public class CBPKeywords {
                             "return analysis.join('\\n');"
             );
 
-            LogUtil.info("Field analysis result:\n" + fieldAnalysis);
+            LogUtil.info(() -> "Field analysis result:\n" + fieldAnalysis);
 
             // Verify the data matches expectations
             Boolean dataMatches = (Boolean) js.executeScript(
@@ -1483,7 +1343,7 @@ public class CBPKeywords {
             LogUtil.info("Setting person type to: " + personType);
             ReportManager.logInfo(context.getTestId(), context.getTestName(), "Setting person type to: " + personType);
 
-            Thread.sleep(2000);
+            SleepAuditor.sleep(2000);
 
             // Look for person type dropdown or field
             Boolean personTypeSet = (Boolean) js.executeScript(
@@ -1530,7 +1390,7 @@ public class CBPKeywords {
                 );
             }
 
-            Thread.sleep(1000);
+            SleepAuditor.sleep(1000);
 
             // Take screenshot
             String screenshotPath = ScreenshotUtils.takeScreenshot("Person_Type_Set");
@@ -1572,7 +1432,7 @@ public class CBPKeywords {
             WebDriver driver = context.getDriver();
             JavascriptExecutor js = (JavascriptExecutor) driver;
 
-            Thread.sleep(2000);
+            SleepAuditor.sleep(2000);
 
             // Look for "Create Event" button
             Boolean eventCreated = (Boolean) js.executeScript(
@@ -1604,7 +1464,7 @@ public class CBPKeywords {
                 );
             }
 
-            Thread.sleep(5000); // Wait for event creation to process
+            SleepAuditor.sleep(5000); // Wait for event creation to process
 
             // Take screenshot after creating event
             String screenshotPath = ScreenshotUtils.takeScreenshot("Event_Created");
@@ -1650,25 +1510,26 @@ public class CBPKeywords {
             String originalWindow = driver.getWindowHandle();
             context.addToContext("ORIGINAL_WINDOW", originalWindow);
 
-            LogUtil.info("Original window handle: " + originalWindow);
+            LogUtil.info(() -> "Original window handle: " + originalWindow);
             LogUtil.info("Current number of windows: " + driver.getWindowHandles().size());
 
             // Wait for new window/tab to open
-            Thread.sleep(5000);
+            SleepAuditor.sleep(5000);
 
             // Check if new window opened
             Set<String> allWindows = driver.getWindowHandles();
-            LogUtil.info("Number of windows after event creation: " + allWindows.size());
+            LogUtil.info(() -> "Number of windows after event creation: " + allWindows.size());
 
             if (allWindows.size() > 1) {
                 // Switch to the new window
                 for (String windowHandle : allWindows) {
                     if (!windowHandle.equals(originalWindow)) {
                         driver.switchTo().window(windowHandle);
-                        LogUtil.info("Switched to new window: " + windowHandle);
+                        LogUtil.info(() -> "Switched to new window: " + windowHandle);
 
                         // Wait for new page to load
-                        Thread.sleep(3000);
+                        SleepAuditor.sleep(3000);
+                        PageMetrics.capture(context, "New event tab");
 
                         // Take screenshot of new tab
                         String screenshotPath = ScreenshotUtils.takeScreenshot("New_Tab_Opened");
@@ -1724,60 +1585,51 @@ public class CBPKeywords {
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(30));
             JavascriptExecutor js = (JavascriptExecutor) driver;
 
-            Thread.sleep(5000); // Wait for page to load after import
-
-            // Look for the associated person we just added (WOOD, Anika)
-            Boolean associatedPersonSelected = (Boolean) js.executeScript(
-                    "var associatedPersons = document.querySelectorAll('.associated-person a.associated-name');" +
-                            "for (var i = 0; i < associatedPersons.length; i++) {" +
-                            "  var personName = associatedPersons[i].textContent.trim();" +
-                            "  if (personName.includes('WOOD') && personName.includes('Anika')) {" +
-                            "    associatedPersons[i].scrollIntoView({behavior: 'smooth', block: 'center'});" +
-                            "    associatedPersons[i].click();" +
-                            "    return true;" +
-                            "  }" +
-                            "}" +
-                            "return false;"
-            );
-
-            if (!associatedPersonSelected) {
-                // Alternative approach - look for any associated person with WOOD
-                associatedPersonSelected = (Boolean) js.executeScript(
-                        "var allPersonLinks = document.querySelectorAll('a');" +
-                                "for (var i = 0; i < allPersonLinks.length; i++) {" +
-                                "  var linkText = allPersonLinks[i].textContent.toLowerCase();" +
-                                "  if (linkText.includes('wood') && linkText.includes('anika')) {" +
-                                "    allPersonLinks[i].scrollIntoView({behavior: 'smooth', block: 'center'});" +
-                                "    allPersonLinks[i].click();" +
-                                "    return true;" +
-                                "  }" +
-                                "}" +
-                                "return false;"
-                );
-            }
-
-            if (!associatedPersonSelected) {
-                // Third approach - look for any clickable element containing the person name
-                associatedPersonSelected = (Boolean) js.executeScript(
-                        "var allElements = document.querySelectorAll('*');" +
-                                "for (var i = 0; i < allElements.length; i++) {" +
-                                "  var element = allElements[i];" +
-                                "  var text = element.textContent;" +
-                                "  if (text && text.includes('WOOD, Anika') && " +
-                                "      (element.tagName.toLowerCase() === 'a' || " +
-                                "       element.onclick || " +
-                                "       element.style.cursor === 'pointer' || " +
-                                "       element.getAttribute('role') === 'button')) {" +
-                                "    element.scrollIntoView({behavior: 'smooth', block: 'center'});" +
-                                "    element.click();" +
-                                "    return true;" +
-                                "  }" +
-                                "}" +
-                                "return false;"
-                );
-            }
+            waitForNetworkIdle(driver, 5000); // Wait for page to load after import
+
+            // Look for the associated person we just added (WOOD, Anika), trying the strategy that worked best before
+            Boolean associatedPersonSelected = Boolean.TRUE.equals(new AdaptiveLocator<Boolean>("associated-person")
+                    .strategy("associated name link", () -> (Boolean) js.executeScript(
+                            "var associatedPersons = document.querySelectorAll('.associated-person a.associated-name');" +
+                                    "for (var i = 0; i < associatedPersons.length; i++) {" +
+                                    "  var personName = associatedPersons[i].textContent.trim();" +
+                                    "  if (personName.includes('WOOD') && personName.includes('Anika')) {" +
+                                    "    associatedPersons[i].scrollIntoView({behavior: 'smooth', block: 'center'});" +
+                                    "    associatedPersons[i].click();" +
+                                    "    return true;" +
+                                    "  }" +
+                                    "}" +
+                                    "return false;"))
+                    .strategy("any person link", () -> (Boolean) js.executeScript(
+                            "var allPersonLinks = document.querySelectorAll('a');" +
+                                    "for (var i = 0; i < allPersonLinks.length; i++) {" +
+                                    "  var linkText = allPersonLinks[i].textContent.toLowerCase();" +
+                                    "  if (linkText.includes('wood') && linkText.includes('anika')) {" +
+                                    "    allPersonLinks[i].scrollIntoView({behavior: 'smooth', block: 'center'});" +
+                                    "    allPersonLinks[i].click();" +
+                                    "    return true;" +
+                                    "  }" +
+                                    "}" +
+                                    "return false;"))
+                    .strategy("clickable element", () -> (Boolean) js.executeScript(
+                            "var allElements = document.querySelectorAll('*');" +
+                                    "for (var i = 0; i < allElements.length; i++) {" +
+                                    "  var element = allElements[i];" +
+                                    "  var text = element.textContent;" +
+                                    "  if (text && text.includes('WOOD, Anika') && " +
+                                    "      (element.tagName.toLowerCase() === 'a' || " +
+                                    "       element.onclick || " +
+                                    "       element.style.cursor === 'pointer' || " +
+                                    "       element.getAttribute('role') === 'button')) {" +
+                                    "    element.scrollIntoView({behavior: 'smooth', block: 'center'});" +
+                                    "    element.click();" +
+                                    "    return true;" +
+                                    "  }" +
+                                    "}" +
+                                    "return false;"))
+                    .locate());
 
-            Thread.sleep(3000);
+            SleepAuditor.sleep(3000);
 
             // Take screenshot
             String screenshotPath = ScreenshotUtils.takeScreenshot("Associated_Person_Selected");
@@ -1828,7 +1680,7 @@ public class CBPKeywords {
             WebDriver driver = context.getDriver();
             JavascriptExecutor js = (JavascriptExecutor) driver;
 
-            Thread.sleep(2000);
+            SleepAuditor.sleep(2000);
 
             // Get expected subject data
             String expectedLastName = context.getTestDataAsString("LastName");
@@ -1854,7 +1706,7 @@ public class CBPKeywords {
                             "return foundInfo.slice(0, 5).join(' | ');" // Return first 5 matches
             );
 
-            LogUtil.info("Found subject information: " + subjectInfo);
+            LogUtil.info(() -> "Found subject information: " + subjectInfo);
 
             // Verify if expected names are present
             Boolean subjectVerified = (Boolean) js.executeScript(
@@ -1909,7 +1761,7 @@ public class CBPKeywords {
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(30));
             JavascriptExecutor js = (JavascriptExecutor) driver;
 
-            Thread.sleep(5000); // Wait for person page to load
+            waitForNetworkIdle(driver, 5000); // Wait for person page to load
 
             // Look for the action dropdown button with specific Material Design classes
             Boolean actionDropdownFound = (Boolean) js.executeScript(
@@ -1939,11 +1791,14 @@ public class CBPKeywords {
                 );
             }
 
-            Thread.sleep(3000);
+            SleepAuditor.sleep(3000);
 
             if (actionDropdownFound) {
                 LogUtil.info("Action dropdown opened, looking for Delete Traveler option");
 
+                // Watch for error toasts from here on, so a short-lived toast is not missed
+                ToastMonitor.install(driver);
+
                 // Look for "Delete Traveler" option in the Material Design menu
                 Boolean deleteClicked = (Boolean) js.executeScript(
                         "var menuItems = document.querySelectorAll('button[mat-menu-item]');" +
@@ -1958,7 +1813,7 @@ public class CBPKeywords {
                                 "return false;"
                 );
 
-                Thread.sleep(2000);
+                SleepAuditor.sleep(2000);
 
                 if (deleteClicked) {
                     LogUtil.info("Delete Traveler clicked, looking for confirmation dialog");
@@ -1977,14 +1832,13 @@ public class CBPKeywords {
                                     "return false;"
                     );
 
-                    Thread.sleep(5000); // Wait for deletion to process
-
                     // ============================================
                     // 🚨 NEW: CHECK FOR ERROR TOAST MESSAGES 🚨
                     // ============================================
+                    // Wait for deletion to process; an error toast ends the wait early
                     LogUtil.info("Checking for error toast messages after delete operation");
 
-                    String errorToastInfo = checkForErrorToast(js, context);
+                    String errorToastInfo = checkForErrorToast(js, context, Duration.ofSeconds(5));
 
                     if (errorToastInfo != null) {
                         // Error toast found - this indicates deletion failed
@@ -2010,11 +1864,11 @@ public class CBPKeywords {
                     LogUtil.info("✅ No error toast detected - checking for success indicators");
 
                     // Wait a bit more to see if page redirects or shows success
-                    Thread.sleep(3000);
+                    SleepAuditor.sleep(3000);
 
                     // Check if we're redirected away from the person page (indicates success)
                     String currentUrl = driver.getCurrentUrl();
-                    LogUtil.info("Current URL after deletion: " + currentUrl);
+                    LogUtil.info(() -> "Current URL after deletion: " + currentUrl);
 
                     // Take screenshot after deletion (success case)
                     String screenshotPath = ScreenshotUtils.takeScreenshot("Traveler_Deleted_Success");
@@ -2073,73 +1927,22 @@ public class CBPKeywords {
 
     /**
      * Helper method to check for error toast messages on the page
+     * Waits up to the given time and returns as soon as an error toast appears.
      * Returns error message if found, null if no error toast detected
      */
-    private String checkForErrorToast(JavascriptExecutor js, TestContext context) {
+    private String checkForErrorToast(JavascriptExecutor js, TestContext context, Duration maxWait) {
         try {
-            LogUtil.info("🔍 Scanning page for error toast messages...");
+            LogUtil.info(() -> "🔍 Waiting up to " + maxWait.getSeconds() + "s for error toast messages...");
 
-            // Check for error toast using multiple strategies
-            String errorInfo = (String) js.executeScript(
-                    "try {" +
-                            "  var errorMessages = [];" +
-                            "  " +
-                            "  // Strategy 1: Look for p-toastitem with error classes" +
-                            "  var toastItems = document.querySelectorAll('p-toastitem');" +
-                            "  for (var i = 0; i < toastItems.length; i++) {" +
-                            "    var toast = toastItems[i];" +
-                            "    if (toast.offsetParent !== null) {" + // Check if visible
-                            "      var errorDiv = toast.querySelector('.p-toast-message-error, .errorMessage');" +
-                            "      if (errorDiv) {" +
-                            "        var summary = toast.querySelector('.p-toast-summary');" +
-                            "        var detail = toast.querySelector('.p-toast-detail');" +
-                            "        var summaryText = summary ? summary.textContent.trim() : 'Unknown Error';" +
-                            "        var detailText = detail ? detail.textContent.trim() : 'No details available';" +
-                            "        errorMessages.push('TOAST ERROR - ' + summaryText + ': ' + detailText);" +
-                            "      }" +
-                            "    }" +
-                            "  }" +
-                            "  " +
-                            "  // Strategy 2: Look for any error toast by class names" +
-                            "  var errorToasts = document.querySelectorAll('.p-toast-message-error, .errorMessage, .error-toast');" +
-                            "  for (var j = 0; j < errorToasts.length; j++) {" +
-                            "    var errorToast = errorToasts[j];" +
-                            "    if (errorToast.offsetParent !== null) {" + // Check if visible
-                            "      var text = errorToast.textContent || errorToast.innerText;" +
-                            "      if (text && text.trim().length > 0) {" +
-                            "        errorMessages.push('ERROR ELEMENT - ' + text.trim().substring(0, 200));" +
-                            "      }" +
-                            "    }" +
-                            "  }" +
-                            "  " +
-                            "  // Strategy 3: Look for specific error patterns in visible text" +
-                            "  var allElements = document.querySelectorAll('*');" +
-                            "  for (var k = 0; k < allElements.length; k++) {" +
-                            "    var element = allElements[k];" +
-                            "    if (element.offsetParent !== null) {" + // Check if visible
-                            "      var elementText = element.textContent || element.innerText;" +
-                            "      if (elementText) {" +
-                            "        var text = elementText.trim();" +
-                            "        if ((text.includes('Action Error') || " +
-                            "             text.includes('Index') && text.includes('out of bounds') || " +
-                            "             text.includes('Error') && text.includes('0 out of bounds for length 0')) && " +
-                            "            text.length < 500) {" + // Avoid capturing entire page content
-                            "          errorMessages.push('ERROR PATTERN - ' + text.substring(0, 200));" +
-                            "        }" +
-                            "      }" +
-                            "    }" +
-                            "  }" +
-                            "  " +
-                            "  // Return first error found or null if none" +
-                            "  return errorMessages.length > 0 ? errorMessages[0] : null;" +
-                            "  " +
-                            "} catch (e) {" +
-                            "  return 'ERROR_CHECKING_FAILED: ' + e.message;" +
-                            "}"
-            );
+            // Errors recorded by the page-side toast monitor, including toasts that have already disappeared
+            List<ToastMonitor.Toast> toasts = ToastMonitor.awaitErrors(context.getDriver(), maxWait);
+            String errorInfo = toasts.isEmpty() ? null : "TOAST ERROR - " + toasts.get(0);
+            if (toasts.size() > 1) {
+                LogUtil.info(() -> "Additional error toasts: " + toasts.subList(1, toasts.size()));
+            }
 
             if (errorInfo != null && !errorInfo.isEmpty()) {
-                LogUtil.info("🚨 ERROR TOAST DETECTED: " + errorInfo);
+                LogUtil.info(() -> "🚨 ERROR TOAST DETECTED: " + errorInfo);
 
                 // Also log what's currently visible on the page for debugging
                 String pageInfo = (String) js.executeScript(
@@ -2150,7 +1953,7 @@ public class CBPKeywords {
                                 "}" +
                                 "return 'CURRENT PAGE CONTENT: ' + visibleText;"
                 );
-                LogUtil.info("📄 " + pageInfo);
+                LogUtil.info(() -> "📄 " + pageInfo);
 
                 return errorInfo;
             } else {
@@ -2189,7 +1992,7 @@ public class CBPKeywords {
 
             if (toastClosed) {
                 LogUtil.info("✅ Error toast closed successfully");
-                Thread.sleep(1000); // Wait for close animation
+                SleepAuditor.sleep(1000); // Wait for close animation
             } else {
                 LogUtil.info("ℹ️ No closeable error toast found or already closed");
             }
@@ -2204,91 +2007,78 @@ public class CBPKeywords {
             LogUtil.info("Filling 1-Day Lookout form - Analyzing existing data first");
 
             // Wait for form to load
-            Thread.sleep(10000);
+            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("textarea[maxlength='3000']")));
 
             // First, let's analyze what's already filled
             analyzeExistingFormData(js);
 
-            // 1. Fill Remarks (Required field - always empty)
-            LogUtil.info("Filling remarks field (required)");
+            // 1-3. Fill Remarks (required, always empty), Primary End Date and Weight if empty in one round trip
+            LogUtil.info("Filling remarks, Primary End Date and Weight");
             String remarks = "Automated 1-Day Lookout - Created at " + System.currentTimeMillis() + " - Subject flagged for review per automated screening protocols";
-            Boolean remarksResult = fillRemarksField(js, remarks);
-            LogUtil.info("Remarks filled: " + remarksResult);
-
-            Thread.sleep(2000);
-
-            // 2. Fill Primary End Date if empty (Required field)
-            LogUtil.info("Checking and filling Primary End Date");
-            String endDate = generateFutureDate(1, 30);
-            Boolean endDateResult = fillPrimaryEndDate(js, endDate);
-            LogUtil.info("Primary End Date result: " + endDateResult);
-
-            Thread.sleep(2000);
-
-            // 3. Fill Height dropdown (Physical Descriptions)
+            FormFiller.Result textResult = FormFiller.fill(driver, Arrays.asList(
+                    FormFiller.Field.css("textarea[maxlength=\"3000\"]", remarks).named("Remarks"),
+                    FormFiller.Field.label("Primary End Date", generateFutureDate(1, 30))
+                            .input("input[mask=\"00/00/0000\"]").onlyIfEmpty().named("Primary End Date"),
+                    FormFiller.Field.css("input[mask=\"0*\"][maxlength=\"4\"]", "150").onlyIfEmpty().named("Weight")));
+            LogUtil.info(() -> "Text field results: " + textResult);
+
+            // 4. Fill Height dropdown (Physical Descriptions)
             LogUtil.info("Filling Height dropdown");
             Boolean heightResult = fillHeightDropdown(js);
-            LogUtil.info("Height dropdown result: " + heightResult);
-
-            Thread.sleep(2000);
+            LogUtil.info(() -> "Height dropdown result: " + heightResult);
 
-            // 4. Fill Weight if empty
-            LogUtil.info("Checking and filling Weight field");
-            Boolean weightResult = fillWeightIfEmpty(js);
-            LogUtil.info("Weight field result: " + weightResult);
-
-            Thread.sleep(2000);
+            SleepAuditor.sleep(2000);
 
             // 5. Add and fill Race
             LogUtil.info("Adding Race field");
             if (clickAddButtonSafe(js, "Add Race")) {
-                Thread.sleep(4000); // More time for field to appear
+                SleepAuditor.sleep(4000); // More time for field to appear
                 Boolean raceResult = selectFromNewlyAddedDropdown(js, "Race", "A - ASIAN");
-                LogUtil.info("Race selection result: " + raceResult);
+                LogUtil.info(() -> "Race selection result: " + raceResult);
             }
 
-            Thread.sleep(2000);
+            SleepAuditor.sleep(2000);
 
             // 6. Add and fill Eye Color
             LogUtil.info("Adding Eye Color field");
             if (clickAddButtonSafe(js, "Add Eye Color")) {
-                Thread.sleep(4000); // More time for field to appear
+                SleepAuditor.sleep(4000); // More time for field to appear
                 Boolean eyeResult = selectFromNewlyAddedDropdown(js, "Eye Color", "BG - BLUE/GREEN");
-                LogUtil.info("Eye Color selection result: " + eyeResult);
+                LogUtil.info(() -> "Eye Color selection result: " + eyeResult);
             }
 
-            Thread.sleep(2000);
+            SleepAuditor.sleep(2000);
 
             // 7. Add and fill Hair Color
             LogUtil.info("Adding Hair Color field");
             if (clickAddButtonSafe(js, "Add Hair Color")) {
-                Thread.sleep(4000); // More time for field to appear
+                SleepAuditor.sleep(4000); // More time for field to appear
                 Boolean hairResult = selectFromNewlyAddedDropdown(js, "Hair Color", "BA - BALD");
-                LogUtil.info("Hair Color selection result: " + hairResult);
+                LogUtil.info(() -> "Hair Color selection result: " + hairResult);
             }
 
-            Thread.sleep(2000);
+            SleepAuditor.sleep(2000);
 
             // 8. Add and fill A#
             LogUtil.info("Adding A# field");
             if (clickAddButtonSafe(js, "Add A#")) {
-                Thread.sleep(3000);
+                SleepAuditor.sleep(3000);
                 String aNumber = "123456789";
-                Boolean aNumberResult = fillAnumber(js, aNumber);
-                LogUtil.info("A# field result: " + aNumberResult);
+                Boolean aNumberResult = fillAnumber(driver, aNumber);
+                LogUtil.info(() -> "A# field result: " + aNumberResult);
             }
 
-            Thread.sleep(2000);
+            SleepAuditor.sleep(2000);
 
             // 9. Add and fill Driver's License
             LogUtil.info("Adding Driver's License field");
             if (clickAddButtonSafe(js, "Add Driver's License")) {
-                Thread.sleep(4000);
-                Boolean licenseResult = fillDriversLicense(js);
-                LogUtil.info("Driver's License result: " + licenseResult);
+                SleepAuditor.sleep(4000);
+                Boolean licenseResult = fillDriversLicense(driver, js);
+                LogUtil.info(() -> "Driver's License result: " + licenseResult);
             }
 
-            Thread.sleep(3000);
+            SleepAuditor.sleep(3000);
 
             // 10. Take final screenshot
             String finalScreenshotPath = ScreenshotUtils.takeScreenshot("1Day_Lookout_Form_Filled");
@@ -2378,65 +2168,13 @@ public class CBPKeywords {
                             "return analysis.join('\\n');"
             );
 
-            LogUtil.info("Form Analysis Result:\n" + analysis);
+            LogUtil.info(() -> "Form Analysis Result:\n" + analysis);
 
         } catch (Exception e) {
             LogUtil.error("Error analyzing form data", e);
         }
     }
 
-    private Boolean fillRemarksField(JavascriptExecutor js, String remarks) {
-        try {
-            return (Boolean) js.executeScript(
-                    "var textarea = document.querySelector('textarea[maxlength=\"3000\"]');" +
-                            "if (textarea) {" +
-                            "  textarea.scrollIntoView({behavior: 'smooth', block: 'center'});" +
-                            "  textarea.focus();" +
-                            "  textarea.value = arguments[0];" +
-                            "  textarea.dispatchEvent(new Event('input', {bubbles: true}));" +
-                            "  textarea.dispatchEvent(new Event('change', {bubbles: true}));" +
-                            "  textarea.blur();" +
-                            "  return true;" +
-                            "}" +
-                            "return false;", remarks
-            );
-        } catch (Exception e) {
-            LogUtil.error("Error filling remarks", e);
-            return false;
-        }
-    }
-
-    private Boolean fillPrimaryEndDate(JavascriptExecutor js, String endDate) {
-        try {
-            // Look for Primary End Date specifically
-            return (Boolean) js.executeScript(
-                    "var found = false;" +
-                            "var labels = document.querySelectorAll('b, label, span');" +
-                            "for (var i = 0; i < labels.length; i++) {" +
-                            "  if (labels[i].textContent && labels[i].textContent.includes('Primary End Date')) {" +
-                            "    var container = labels[i].closest('div');" +
-                            "    if (container) {" +
-                            "      var dateInput = container.querySelector('input[mask=\"00/00/0000\"]');" +
-                            "      if (dateInput && dateInput.value === '') {" +
-                            "        dateInput.focus();" +
-                            "        dateInput.value = arguments[0];" +
-                            "        dateInput.dispatchEvent(new Event('input', {bubbles: true}));" +
-                            "        dateInput.dispatchEvent(new Event('change', {bubbles: true}));" +
-                            "        dateInput.blur();" +
-                            "        found = true;" +
-                            "        break;" +
-                            "      }" +
-                            "    }" +
-                            "  }" +
-                            "}" +
-                            "return found;", endDate
-            );
-        } catch (Exception e) {
-            LogUtil.error("Error filling primary end date", e);
-            return false;
-        }
-    }
-
     private Boolean fillHeightDropdown(JavascriptExecutor js) {
         try {
             LogUtil.info("Looking for Height dropdown in Physical Descriptions");
@@ -2492,29 +2230,9 @@ public class CBPKeywords {
         }
     }
 
-    private Boolean fillWeightIfEmpty(JavascriptExecutor js) {
-        try {
-            return (Boolean) js.executeScript(
-                    "var weightInput = document.querySelector('input[mask=\"0*\"][maxlength=\"4\"]');" +
-                            "if (weightInput && weightInput.value === '') {" +
-                            "  weightInput.focus();" +
-                            "  weightInput.value = '150';" +
-                            "  weightInput.dispatchEvent(new Event('input', {bubbles: true}));" +
-                            "  weightInput.dispatchEvent(new Event('change', {bubbles: true}));" +
-                            "  weightInput.blur();" +
-                            "  return true;" +
-                            "}" +
-                            "return false;"
-            );
-        } catch (Exception e) {
-            LogUtil.error("Error filling weight", e);
-            return false;
-        }
-    }
-
     private boolean clickAddButtonSafe(JavascriptExecutor js, String buttonText) {
         try {
-            LogUtil.info("Attempting to click: " + buttonText);
+            LogUtil.info(() -> "Attempting to click: " + buttonText);
             Boolean result = (Boolean) js.executeScript(
                     "var buttons = document.querySelectorAll('button.add-button, button.mat-raised-button, button');" +
                             "for (var i = 0; i < buttons.length; i++) {" +
@@ -2535,7 +2253,7 @@ public class CBPKeywords {
 
     private boolean selectFromNewlyAddedDropdown(JavascriptExecutor js, String fieldType, String optionText) {
         try {
-            LogUtil.info("Selecting '" + optionText + "' from newly added " + fieldType + " dropdown");
+            LogUtil.info(() -> "Selecting '" + optionText + "' from newly added " + fieldType + " dropdown");
 
             Boolean result = (Boolean) js.executeScript(
                     "return new Promise((resolve) => {" +
@@ -2579,7 +2297,7 @@ public class CBPKeywords {
                             "});", fieldType, optionText
             );
 
-            Thread.sleep(4000);
+            SleepAuditor.sleep(4000);
             return result != null && result;
         } catch (Exception e) {
             LogUtil.error("Error selecting from " + fieldType + " dropdown: " + optionText, e);
@@ -2587,71 +2305,39 @@ public class CBPKeywords {
         }
     }
 
-    private boolean fillAnumber(JavascriptExecutor js, String aNumber) {
+    private boolean fillAnumber(WebDriver driver, String aNumber) {
         try {
-            LogUtil.info("Filling A# field with: " + aNumber);
-            Thread.sleep(2000);
+            LogUtil.info(() -> "Filling A# field with: " + aNumber);
 
-            Boolean result = (Boolean) js.executeScript(
-                    "var inputs = document.querySelectorAll('input[mask=\"0*\"], input[maxlength=\"9\"]');" +
-                            "for (var i = inputs.length - 1; i >= 0; i--) {" +
-                            "  var input = inputs[i];" +
-                            "  var rect = input.getBoundingClientRect();" +
-                            "  if (rect.width > 0 && rect.height > 0 && input.value === '') {" +
-                            "    input.focus();" +
-                            "    input.value = arguments[0];" +
-                            "    input.dispatchEvent(new Event('input', {bubbles: true}));" +
-                            "    input.dispatchEvent(new Event('change', {bubbles: true}));" +
-                            "    input.blur();" +
-                            "    return true;" +
-                            "  }" +
-                            "}" +
-                            "return false;", aNumber
-            );
-
-            return result != null && result;
+            FormFiller.Result result = FormFiller.fill(driver, Arrays.asList(
+                    FormFiller.Field.css("input[mask=\"0*\"], input[maxlength=\"9\"]", aNumber).awaitEmpty().named("A#")));
+            return FormFiller.FILLED.equals(result.getStatus("A#"));
         } catch (Exception e) {
             LogUtil.error("Error filling A# field", e);
             return false;
         }
     }
 
-    private boolean fillPassportInfo(JavascriptExecutor js) {
+    private boolean fillPassportInfo(WebDriver driver) {
         try {
             LogUtil.info("Filling Passport information");
-            Thread.sleep(2000);
 
-            // Step 1: Select Passport Type
-            LogUtil.info("  - Selecting passport type");
-            Boolean typeResult = selectPassportField(js, "Passport Type", "R - Regular");
-            Thread.sleep(2000);
+            // Step 1: Select Passport Type and Country
+            LogUtil.info("  - Selecting passport type and country");
+            Boolean typeResult = selectPassportField(driver, "Passport Type", "R - Regular");
+            Boolean countryResult = selectPassportField(driver, "Passport Country", "USA - UNITED STATES");
 
-            // Step 2: Fill Passport Number
-            LogUtil.info("  - Filling passport number");
-            String passportNumber = generatePassportNumber();
-            Boolean numberResult = fillPassportField(js, "Passport #", passportNumber);
-            Thread.sleep(2000);
+            // Step 2: Fill Passport Number, Issue Date (1-10 years ago) and Expiry Date (1-10 years ahead) in one round trip
+            LogUtil.info("  - Filling passport number and dates");
+            FormFiller.Result textResult = FormFiller.fill(driver, Arrays.asList(
+                    FormFiller.Field.label("Passport #", generatePassportNumber()).named("Number"),
+                    FormFiller.Field.label("Passport Issue Date", generatePastDate(365, 3650)).named("Issue"),
+                    FormFiller.Field.label("Passport Expiration Date", generateFutureDate(365, 3650)).named("Expiry")));
 
-            // Step 3: Select Passport Country
-            LogUtil.info("  - Selecting passport country");
-            Boolean countryResult = selectPassportField(js, "Passport Country", "USA - UNITED STATES");
-            Thread.sleep(2000);
+            LogUtil.info("Passport filling results - Type: " + typeResult + ", Country: " + countryResult +
+                    ", Fields: " + textResult);
 
-            // Step 4: Fill Issue Date
-            LogUtil.info("  - Filling passport issue date");
-            String issueDate = generatePastDate(365, 3650); // 1-10 years ago
-            Boolean issueDateResult = fillPassportField(js, "Passport Issue Date", issueDate);
-            Thread.sleep(2000);
-
-            // Step 5: Fill Expiry Date
-            LogUtil.info("  - Filling passport expiry date");
-            String expiryDate = generateFutureDate(365, 3650); // 1-10 years from now
-            Boolean expiryDateResult = fillPassportField(js, "Passport Expiration Date", expiryDate);
-
-            LogUtil.info("Passport filling results - Type: " + typeResult + ", Number: " + numberResult +
-                    ", Country: " + countryResult + ", Issue: " + issueDateResult + ", Expiry: " + expiryDateResult);
-
-            return numberResult != null && numberResult; // At minimum, passport number should be filled
+            return textResult.isSuccessful("Number"); // At minimum, passport number should be filled
 
         } catch (Exception e) {
             LogUtil.error("Error filling passport information", e);
@@ -2659,113 +2345,15 @@ public class CBPKeywords {
         }
     }
 
-    private Boolean selectPassportField(JavascriptExecutor js, String fieldLabel, String optionText) {
+    private Boolean selectPassportField(WebDriver driver, String fieldLabel, String optionText) {
         try {
-            return (Boolean) js.executeScript(
-                    "return new Promise((resolve) => {" +
-                            "  setTimeout(() => {" +
-                            "    var labels = document.querySelectorAll('label, mat-label, span');" +
-                            "    var targetDropdown = null;" +
-                            "    for (var i = labels.length - 1; i >= 0; i--) {" +
-                            "      if (labels[i].textContent && labels[i].textContent.includes(arguments[0])) {" +
-                            "        var container = labels[i].closest('div, mat-form-field, .tecs-flex-container');" +
-                            "        if (container) {" +
-                            "          var dropdown = container.querySelector('mat-select:not([aria-disabled=\"true\"]), select:not([disabled])');" +
-                            "          if (dropdown) {" +
-                            "            var rect = dropdown.getBoundingClientRect();" +
-                            "            if (rect.width > 0 && rect.height > 0) {" +
-                            "              targetDropdown = dropdown;" +
-                            "              break;" +
-                            "            }" +
-                            "          }" +
-                            "        }" +
-                            "      }" +
-                            "    }" +
-                            "    if (!targetDropdown) {" +
-                            "      var allDropdowns = document.querySelectorAll('mat-select:not([aria-disabled=\"true\"]), select:not([disabled])');" +
-                            "      for (var j = allDropdowns.length - 1; j >= 0; j--) {" +
-                            "        var rect = allDropdowns[j].getBoundingClientRect();" +
-                            "        if (rect.width > 0 && rect.height > 0) {" +
-                            "          targetDropdown = allDropdowns[j];" +
-                            "          break;" +
-                            "        }" +
-                            "      }" +
-                            "    }" +
-                            "    if (!targetDropdown) { resolve(false); return; }" +
-                            "    var trigger = targetDropdown.querySelector('.mat-select-trigger');" +
-                            "    if (trigger) { trigger.click(); } else { targetDropdown.click(); }" +
-                            "    setTimeout(() => {" +
-                            "      var options = document.querySelectorAll('mat-option:not(.mat-option-disabled), option:not([disabled])');" +
-                            "      for (var k = 0; k < options.length; k++) {" +
-                            "        if (options[k].offsetParent !== null && options[k].textContent.includes(arguments[1])) {" +
-                            "          options[k].click();" +
-                            "          setTimeout(() => { document.body.click(); resolve(true); }, 500);" +
-                            "          return;" +
-                            "        }" +
-                            "      }" +
-                            "      if (options.length > 0) {" +
-                            "        options[0].click();" +
-                            "        setTimeout(() => { document.body.click(); resolve(true); }, 500);" +
-                            "      } else { resolve(false); }" +
-                            "    }, 3000);" +
-                            "  }, 1000);" +
-                            "});", fieldLabel, optionText
-            );
+            return (Boolean) ScriptRegistry.execute(driver, "passport-select", fieldLabel, optionText);
         } catch (Exception e) {
             LogUtil.error("Error selecting passport field: " + fieldLabel, e);
             return false;
         }
     }
 
-    private Boolean fillPassportField(JavascriptExecutor js, String fieldLabel, String value) {
-        try {
-            return (Boolean) js.executeScript(
-                    "var labels = document.querySelectorAll('label, mat-label, span');" +
-                            "for (var i = labels.length - 1; i >= 0; i--) {" +
-                            "  if (labels[i].textContent && labels[i].textContent.includes(arguments[0])) {" +
-                            "    var container = labels[i].closest('div, mat-form-field, .tecs-flex-container');" +
-                            "    if (container) {" +
-                            "      var input = container.querySelector('input:not([readonly]):not([disabled])');" +
-                            "      if (input) {" +
-                            "        var rect = input.getBoundingClientRect();" +
-                            "        if (rect.width > 0 && rect.height > 0) {" +
-                            "          input.focus();" +
-                            "          input.value = arguments[1];" +
-                            "          input.dispatchEvent(new Event('input', {bubbles: true}));" +
-                            "          input.dispatchEvent(new Event('change', {bubbles: true}));" +
-                            "          input.blur();" +
-                            "          return true;" +
-                            "        }" +
-                            "      }" +
-                            "    }" +
-                            "  }" +
-                            "}" +
-                            "var allInputs = document.querySelectorAll('input:not([readonly]):not([disabled])');" +
-                            "for (var j = allInputs.length - 1; j >= 0; j--) {" +
-                            "  var input = allInputs[j];" +
-                            "  var rect = input.getBoundingClientRect();" +
-                            "  if (rect.width > 0 && rect.height > 0 && input.value === '') {" +
-                            "    var inputType = input.getAttribute('mask') || input.getAttribute('maxlength') || input.type;" +
-                            "    if ((arguments[0].includes('Date') && inputType === '00/00/0000') || " +
-                            "        (arguments[0].includes('#') && inputType === '20') || " +
-                            "        (!arguments[0].includes('Date') && inputType !== '00/00/0000')) {" +
-                            "      input.focus();" +
-                            "      input.value = arguments[1];" +
-                            "      input.dispatchEvent(new Event('input', {bubbles: true}));" +
-                            "      input.dispatchEvent(new Event('change', {bubbles: true}));" +
-                            "      input.blur();" +
-                            "      return true;" +
-                            "    }" +
-                            "  }" +
-                            "}" +
-                            "return false;", fieldLabel, value
-            );
-        } catch (Exception e) {
-            LogUtil.error("Error filling passport field: " + fieldLabel, e);
-            return false;
-        }
-    }
-
     private String generatePassportNumber() {
         Random random = new Random();
         // Generate realistic US passport number format
@@ -2779,114 +2367,34 @@ public class CBPKeywords {
         return date.format(DateTimeFormatter.ofPattern("MM/dd/yyyy"));
     }
 
-    private String submitFormAndCaptureTECSID(JavascriptExecutor js, TestContext context) {
+    @SuppressWarnings("unchecked")
+    private String submitFormAndCaptureTECSID(TestContext context) {
         try {
             LogUtil.info("Attempting to submit form and capture TECS ID");
 
-            // First, try to find and click submit button
-            Boolean submitClicked = (Boolean) js.executeScript(
-                    "var submitButtons = document.querySelectorAll('button');" +
-                            "for (var i = 0; i < submitButtons.length; i++) {" +
-                            "  var buttonText = submitButtons[i].textContent.toLowerCase();" +
-                            "  if (buttonText.includes('submit') && !submitButtons[i].disabled) {" +
-                            "    submitButtons[i].scrollIntoView({behavior: 'smooth', block: 'center'});" +
-                            "    submitButtons[i].click();" +
-                            "    return true;" +
-                            "  }" +
-                            "}" +
-                            "return false;"
-            );
+            // Click submit and watch the page for the TECS ID in one call; returns as soon as the ID renders
+            int timeoutSeconds = config.getIntProperty("tecs.capture.timeout.seconds", 30);
+            ScriptRegistry.ensureScriptTimeout(context.getDriver(), Duration.ofSeconds(timeoutSeconds + 10L));
+            long startTime = System.currentTimeMillis();
+            Map<String, Object> capture = (Map<String, Object>) ScriptRegistry.executeAsync(context.getDriver(),
+                    "tecs-id-capture", timeoutSeconds * 1000L);
 
-            if (!submitClicked) {
+            if (!Boolean.TRUE.equals(capture.get("submitted"))) {
                 LogUtil.warn("Submit button not found or not clickable");
                 return null;
             }
 
-            LogUtil.info("Submit button clicked, waiting for TECS ID to appear");
-
-            // Wait for submission to process and TECS ID to appear
-            Thread.sleep(8000);
-
-            // Try multiple strategies to find TECS ID
-            String tecsId = null;
-
-            // Strategy 1: Look for "TECS ID:" pattern
-            tecsId = (String) js.executeScript(
-                    "var allElements = document.querySelectorAll('*');" +
-                            "for (var i = 0; i < allElements.length; i++) {" +
-                            "  var text = allElements[i].textContent || allElements[i].innerText;" +
-                            "  if (text && text.includes('TECS ID:')) {" +
-                            "    var matches = text.match(/TECS ID:\\s*([A-Z0-9]+)/i);" +
-                            "    if (matches && matches[1]) {" +
-                            "      return matches[1];" +
-                            "    }" +
-                            "  }" +
-                            "}" +
-                            "return null;"
-            );
-
-            if (tecsId == null) {
-                // Strategy 2: Look for pattern like "XYZ121312" (letters + numbers)
-                tecsId = (String) js.executeScript(
-                        "var allElements = document.querySelectorAll('*');" +
-                                "for (var i = 0; i < allElements.length; i++) {" +
-                                "  var text = allElements[i].textContent || allElements[i].innerText;" +
-                                "  if (text) {" +
-                                "    var matches = text.match(/[A-Z]{2,}[0-9]{5,}/g);" +
-                                "    if (matches && matches.length > 0) {" +
-                                "      return matches[0];" +
-                                "    }" +
-                                "  }" +
-                                "}" +
-                                "return null;"
-                );
-            }
-
-            if (tecsId == null) {
-                // Strategy 3: Look for any success message containing alphanumeric ID
-                tecsId = (String) js.executeScript(
-                        "var successElements = document.querySelectorAll('.success, .alert-success, .notification, .message');" +
-                                "for (var i = 0; i < successElements.length; i++) {" +
-                                "  var text = successElements[i].textContent || successElements[i].innerText;" +
-                                "  if (text) {" +
-                                "    var matches = text.match(/[A-Z0-9]{6,}/g);" +
-                                "    if (matches && matches.length > 0) {" +
-                                "      return matches[0];" +
-                                "    }" +
-                                "  }" +
-                                "}" +
-                                "return null;"
-                );
-            }
-
+            String tecsId = (String) capture.get("tecsId");
             if (tecsId != null) {
-                LogUtil.info("TECS ID captured successfully: " + tecsId);
-
-                // Take additional screenshot highlighting the TECS ID
-                String highlightResult = (String) js.executeScript(
-                        "var allElements = document.querySelectorAll('*');" +
-                                "for (var i = 0; i < allElements.length; i++) {" +
-                                "  var text = allElements[i].textContent || allElements[i].innerText;" +
-                                "  if (text && text.includes(arguments[0])) {" +
-                                "    allElements[i].style.backgroundColor = 'yellow';" +
-                                "    allElements[i].style.border = '2px solid red';" +
-                                "    allElements[i].scrollIntoView({behavior: 'smooth', block: 'center'});" +
-                                "    return 'highlighted';" +
-                                "  }" +
-                                "}" +
-                                "return 'not_found';", tecsId
-                );
+                LogUtil.info("TECS ID captured successfully in " + (System.currentTimeMillis() - startTime) +
+                        " ms (" + capture.get("strategy") + "): " + tecsId);
 
-                Thread.sleep(2000); // Wait for highlight to be visible
-                LogUtil.info("TECS ID highlighted on page: " + highlightResult);
+                SleepAuditor.sleep(2000); // Wait for highlight to be visible
             } else {
-                LogUtil.warn("TECS ID not found using any strategy");
+                LogUtil.warn("TECS ID not found within " + timeoutSeconds + "s after submit");
 
                 // Log current page content for debugging
-                String pageContent = (String) js.executeScript(
-                        "return document.body.textContent.substring(0, 1000);"
-                );
-                LogUtil.info("Current page content (first 1000 chars): " + pageContent);
+                LogUtil.info(() -> "Current page content (first 1000 chars): " + capture.get("pageContent"));
             }
 
             return tecsId;
@@ -2897,30 +2405,15 @@ public class CBPKeywords {
         }
     }
 
-    private boolean fillDriversLicense(JavascriptExecutor js) {
+    private boolean fillDriversLicense(WebDriver driver, JavascriptExecutor js) {
         try {
             LogUtil.info("Filling Driver's License information");
-            Thread.sleep(2000);
-
-            // Fill license number
-            Boolean licenseNumberResult = (Boolean) js.executeScript(
-                    "var inputs = document.querySelectorAll('input[maxlength=\"20\"]');" +
-                            "for (var i = inputs.length - 1; i >= 0; i--) {" +
-                            "  var input = inputs[i];" +
-                            "  var rect = input.getBoundingClientRect();" +
-                            "  if (rect.width > 0 && rect.height > 0 && input.value === '') {" +
-                            "    input.focus();" +
-                            "    input.value = 'DL' + Math.floor(Math.random() * 1000000);" +
-                            "    input.dispatchEvent(new Event('input', {bubbles: true}));" +
-                            "    input.dispatchEvent(new Event('change', {bubbles: true}));" +
-                            "    input.blur();" +
-                            "    return true;" +
-                            "  }" +
-                            "}" +
-                            "return false;"
-            );
 
-            Thread.sleep(2000);
+            // Fill license number into the newly added (last empty) license field
+            FormFiller.Result numberResult = FormFiller.fill(driver, Arrays.asList(
+                    FormFiller.Field.css("input[maxlength=\"20\"]", "DL" + new Random().nextInt(1000000))
+                            .awaitEmpty().named("License Number")));
+            boolean licenseNumberResult = FormFiller.FILLED.equals(numberResult.getStatus("License Number"));
 
             // Select state
             Boolean stateResult = (Boolean) js.executeScript(
@@ -2949,8 +2442,8 @@ public class CBPKeywords {
                             "});"
             );
 
-            LogUtil.info("Driver's License - Number: " + licenseNumberResult + ", State: " + stateResult);
-            return licenseNumberResult != null && licenseNumberResult;
+            LogUtil.info(() -> "Driver's License - Number: " + licenseNumberResult + ", State: " + stateResult);
+            return licenseNumberResult;
 
         } catch (Exception e) {
             LogUtil.error("Error filling driver's license", e);
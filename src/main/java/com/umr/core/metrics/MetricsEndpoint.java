@@ -0,0 +1,162 @@
+package com.umr.core.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.umr.core.config.ConfigLoader;
+import com.umr.utils.LogUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves the live {@link RunMetrics} of the current run in OpenMetrics text format at
+ * http://&lt;host&gt;:&lt;metrics.port&gt;/metrics, so a long run can be followed or scraped while it executes.
+ * Uses the JDK's built-in HTTP server; disabled unless metrics.port is set.
+ */
+public class MetricsEndpoint {
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+    private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    private static HttpServer server;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MetricsEndpoint() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Starts the endpoint if metrics.port is set. A port that cannot be bound is logged and the run continues.
+     */
+    public static synchronized void start() {
+        int port = config.getIntProperty("metrics.port", 0);
+        if (server != null || port <= 0) {
+            return;
+        }
+
+        try {
+            HttpServer newServer = HttpServer.create(
+                    new InetSocketAddress(config.getProperty("metrics.host", "0.0.0.0"), port), 0);
+            newServer.createContext("/metrics", MetricsEndpoint::handle);
+            newServer.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "cbp-metrics");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            newServer.start();
+            server = newServer;
+            LogUtil.info("Metrics endpoint listening on port " + port + " (/metrics)");
+        } catch (IOException e) {
+            LogUtil.warn("Could not start metrics endpoint on port " + port + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the endpoint. Does nothing if it is not running.
+     */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Renders the current run metrics in OpenMetrics text format.
+     *
+     * @return The metrics exposition
+     */
+    public static String render() {
+        StringBuilder out = new StringBuilder();
+
+        family(out, "cbp_tests_planned", "gauge", "Tests queued for this run.");
+        sample(out, "cbp_tests_planned", "", RunMetrics.getTestsPlanned());
+
+        family(out, "cbp_tests_completed", "counter", "Tests that reached their final outcome, by status.");
+        Map<String, Long> completed = RunMetrics.getTestsCompleted();
+        completed.putIfAbsent("passed", 0L);
+        completed.putIfAbsent("failed", 0L);
+        for (Map.Entry<String, Long> entry : completed.entrySet()) {
+            sample(out, "cbp_tests_completed_total", label("status", entry.getKey()), entry.getValue());
+        }
+
+        family(out, "cbp_test_retries", "counter", "Test attempts queued for a retry after a transient failure.");
+        sample(out, "cbp_test_retries_total", "", RunMetrics.getTestRetries());
+
+        family(out, "cbp_workers_active", "gauge", "Workers currently executing a test.");
+        sample(out, "cbp_workers_active", "", RunMetrics.getActiveWorkers());
+
+        family(out, "cbp_test_queue_depth", "gauge", "Test attempts waiting for a worker, including retries.");
+        sample(out, "cbp_test_queue_depth", "", RunMetrics.getQueueDepth());
+
+        family(out, "cbp_run_elapsed_seconds", "gauge", "Time since test execution started.");
+        sample(out, "cbp_run_elapsed_seconds", "", RunMetrics.getElapsedMillis() / 1000.0);
+
+        family(out, "cbp_run_eta_seconds", "gauge",
+                "Estimated time until all planned tests are completed; -1 until the first test completes.");
+        long etaMillis = RunMetrics.getEtaMillis();
+        sample(out, "cbp_run_eta_seconds", "", etaMillis < 0 ? -1 : etaMillis / 1000.0);
+
+        Map<String, RunMetrics.KeywordStats> keywords = RunMetrics.getKeywordStats();
+        family(out, "cbp_keyword_duration_seconds", "summary", "Keyword execution time.");
+        for (Map.Entry<String, RunMetrics.KeywordStats> entry : keywords.entrySet()) {
+            String keyword = label("keyword", entry.getKey());
+            sample(out, "cbp_keyword_duration_seconds_count", keyword, entry.getValue().getCount());
+            sample(out, "cbp_keyword_duration_seconds_sum", keyword, entry.getValue().getTotalMillis() / 1000.0);
+        }
+
+        family(out, "cbp_keyword_duration_max_seconds", "gauge", "Longest keyword execution so far.");
+        for (Map.Entry<String, RunMetrics.KeywordStats> entry : keywords.entrySet()) {
+            sample(out, "cbp_keyword_duration_max_seconds", label("keyword", entry.getKey()),
+                    entry.getValue().getMaxMillis() / 1000.0);
+        }
+
+        family(out, "cbp_keyword_failures", "counter", "Keyword executions that failed.");
+        for (Map.Entry<String, RunMetrics.KeywordStats> entry : keywords.entrySet()) {
+            sample(out, "cbp_keyword_failures_total", label("keyword", entry.getKey()), entry.getValue().getFailures());
+        }
+
+        out.append("# EOF\n");
+        return out.toString();
+    }
+
+    private static void family(StringBuilder out, String name, String type, String help) {
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, long value) {
+        out.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+
+    private static String label(String name, String value) {
+        String escaped = value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        return "{" + name + "=\"" + escaped + "\"}";
+    }
+}
@@ -0,0 +1,189 @@
+package com.umr.core.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Live counters of the current run: test progress, active workers, queue depth and keyword latencies.
+ * Counters are lock-free, so the runner and the keyword executor update them on every test and keyword
+ * without slowing down the workers; {@link MetricsEndpoint} renders them in OpenMetrics text format.
+ */
+public class RunMetrics {
+    private static final AtomicInteger testsPlanned = new AtomicInteger();
+    private static final Map<String, LongAdder> testsCompleted = new ConcurrentHashMap<>();
+    private static final LongAdder testRetries = new LongAdder();
+    private static final AtomicInteger activeWorkers = new AtomicInteger();
+    private static final Map<String, KeywordStats> keywordStats = new ConcurrentHashMap<>();
+
+    private static volatile long runStartMillis;
+    private static volatile IntSupplier queueDepth = () -> 0;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private RunMetrics() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Marks the start of test execution.
+     *
+     * @param plannedTests Number of tests queued for the run
+     * @param queueDepthSupplier Gives the number of queued test attempts, including retries
+     */
+    public static void runStarted(int plannedTests, IntSupplier queueDepthSupplier) {
+        testsPlanned.set(plannedTests);
+        queueDepth = queueDepthSupplier;
+        runStartMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Counts a worker that starts executing a test attempt.
+     */
+    public static void workerBusy() {
+        activeWorkers.incrementAndGet();
+    }
+
+    /**
+     * Counts a worker that finished executing a test attempt.
+     */
+    public static void workerIdle() {
+        activeWorkers.decrementAndGet();
+    }
+
+    /**
+     * Counts a test that reached its final outcome.
+     *
+     * @param status The final status, e.g. PASSED or FAILED
+     */
+    public static void testCompleted(String status) {
+        String label = status != null ? status.toLowerCase(Locale.ROOT) : "unknown";
+        testsCompleted.computeIfAbsent(label, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Counts a test attempt that was queued for a retry.
+     */
+    public static void testRetried() {
+        testRetries.increment();
+    }
+
+    /**
+     * Records one keyword execution.
+     *
+     * @param keyword The keyword name
+     * @param millis Time the keyword took
+     * @param success Whether the keyword succeeded
+     */
+    public static void keywordExecuted(String keyword, long millis, boolean success) {
+        keywordStats.computeIfAbsent(keyword, key -> new KeywordStats()).add(millis, success);
+    }
+
+    public static int getTestsPlanned() {
+        return testsPlanned.get();
+    }
+
+    /**
+     * Gets the number of tests that reached their final outcome, by status.
+     *
+     * @return Lower-case status to count
+     */
+    public static Map<String, Long> getTestsCompleted() {
+        Map<String, Long> completed = new TreeMap<>();
+        testsCompleted.forEach((status, count) -> completed.put(status, count.sum()));
+        return completed;
+    }
+
+    public static long getTestsCompletedTotal() {
+        long total = 0;
+        for (LongAdder count : testsCompleted.values()) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    public static long getTestRetries() {
+        return testRetries.sum();
+    }
+
+    public static int getActiveWorkers() {
+        return activeWorkers.get();
+    }
+
+    public static int getQueueDepth() {
+        return queueDepth.getAsInt();
+    }
+
+    /**
+     * Gets the time since test execution started.
+     *
+     * @return Elapsed milliseconds, 0 before the run starts
+     */
+    public static long getElapsedMillis() {
+        return runStartMillis > 0 ? System.currentTimeMillis() - runStartMillis : 0;
+    }
+
+    /**
+     * Estimates the time until all planned tests are completed, from the completion rate so far.
+     *
+     * @return Estimated remaining milliseconds, or -1 before the first test completes
+     */
+    public static long getEtaMillis() {
+        long completed = getTestsCompletedTotal();
+        if (completed == 0) {
+            return -1;
+        }
+        long remaining = Math.max(0, testsPlanned.get() - completed);
+        return getElapsedMillis() * remaining / completed;
+    }
+
+    /**
+     * Gets the latency statistics of every keyword executed so far.
+     *
+     * @return Keyword name to statistics, sorted by name
+     */
+    public static Map<String, KeywordStats> getKeywordStats() {
+        return new TreeMap<>(keywordStats);
+    }
+
+    /**
+     * Execution count and latency of one keyword.
+     */
+    public static class KeywordStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final AtomicLong maxMillis = new AtomicLong();
+
+        private void add(long millis, boolean success) {
+            count.increment();
+            totalMillis.add(millis);
+            maxMillis.accumulateAndGet(millis, Math::max);
+            if (!success) {
+                failures.increment();
+            }
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        public long getTotalMillis() {
+            return totalMillis.sum();
+        }
+
+        public long getMaxMillis() {
+            return maxMillis.get();
+        }
+    }
+}
@@ -57,8 +57,18 @@ public class EmailReporter {
     /**
      * Adds a test result to the email report.
      */
-    public void addTestResult(String testId, String testName, String status, String duration,
+    public synchronized void addTestResult(String testId, String testName, String status, String duration,
                               String jiraTicket, String tecsId, String failureReason) {
+        addTestResult(testId, testName, status, duration, jiraTicket, tecsId, failureReason,
+                DATE_FORMAT.format(new Date()));
+    }
+
+    /**
+     * Adds a test result to the email report with an explicit completion timestamp.
+     * Used when restoring results recorded by an earlier, interrupted run.
+     */
+    public synchronized void addTestResult(String testId, String testName, String status, String duration,
+                              String jiraTicket, String tecsId, String failureReason, String timestamp) {
         TestResult result = new TestResult();
         result.testId = testId;
         result.testName = testName;
@@ -67,7 +77,7 @@ public class EmailReporter {
         result.jiraTicket = jiraTicket != null ? jiraTicket : "N/A";
         result.tecsId = tecsId != null ? tecsId : "N/A";
         result.failureReason = failureReason;
-        result.timestamp = DATE_FORMAT.format(new Date());
+        result.timestamp = timestamp;
 
         testResults.add(result);
         totalTests++;
@@ -0,0 +1,151 @@
+package com.umr.reporting;
+
+import com.umr.core.config.ConfigLoader;
+import com.umr.utils.LogUtil;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only store of execution history that is kept across runs.
+ * Each category (e.g. test attempts) is one tab-separated file in the history directory whose
+ * columns are fixed by the first record ever written to it.
+ */
+public class HistoryStore {
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+    private static final String HISTORY_EXTENSION = ".tsv";
+
+    // Column order of each category file, read from its header on first use
+    private static final Map<String, List<String>> columnsByCategory = new HashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private HistoryStore() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Gets the directory history files are written to.
+     *
+     * @return The history directory
+     */
+    public static File getHistoryDirectory() {
+        return new File(config.getProperty("history.dir", config.getReportsDirectory() + "/history"));
+    }
+
+    /**
+     * Appends a record to a history category.
+     * Values for columns the category does not have are dropped with a warning; missing values are written as null.
+     *
+     * @param category The history category, used as the file name
+     * @param record Column name to value, in the column order to use if the category is new
+     */
+    public static synchronized void append(String category, LinkedHashMap<String, String> record) {
+        File historyFile = getHistoryFile(category);
+
+        try {
+            File parent = historyFile.getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.exists()) {
+                parent.mkdirs();
+            }
+
+            List<String> columns = getColumns(category, historyFile);
+            StringBuilder content = new StringBuilder();
+            if (columns == null) {
+                columns = new ArrayList<>(record.keySet());
+                columnsByCategory.put(category, columns);
+                content.append(TsvFormat.join(columns.toArray(new String[0]))).append('\n');
+            }
+
+            for (String key : record.keySet()) {
+                if (!columns.contains(key)) {
+                    LogUtil.warn("History category '" + category + "' has no column '" + key + "'. Value dropped.");
+                }
+            }
+
+            String[] values = new String[columns.size()];
+            for (int i = 0; i < columns.size(); i++) {
+                values[i] = record.get(columns.get(i));
+            }
+            content.append(TsvFormat.join(values)).append('\n');
+
+            try (OutputStream out = new FileOutputStream(historyFile, true)) {
+                out.write(content.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            LogUtil.error("Failed to append to history category: " + category, e);
+        }
+    }
+
+    /**
+     * Reads all records of a history category, oldest first.
+     *
+     * @param category The history category
+     * @return The records as column name to value maps; empty if the category has no history
+     */
+    public static synchronized List<Map<String, String>> read(String category) {
+        List<Map<String, String>> records = new ArrayList<>();
+        File historyFile = getHistoryFile(category);
+        if (!historyFile.isFile()) {
+            return records;
+        }
+
+        try {
+            List<String> lines = Files.readAllLines(historyFile.toPath(), StandardCharsets.UTF_8);
+            if (lines.isEmpty()) {
+                return records;
+            }
+
+            List<String> columns = Arrays.asList(TsvFormat.split(lines.get(0)));
+            for (int i = 1; i < lines.size(); i++) {
+                String line = lines.get(i);
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                String[] values = TsvFormat.split(line);
+                if (values.length != columns.size()) {
+                    LogUtil.warn("Skipping malformed history line " + (i + 1) + " in " + historyFile.getName());
+                    continue;
+                }
+
+                Map<String, String> record = new LinkedHashMap<>();
+                for (int j = 0; j < columns.size(); j++) {
+                    record.put(columns.get(j), values[j]);
+                }
+                records.add(record);
+            }
+        } catch (IOException e) {
+            LogUtil.error("Failed to read history category: " + category, e);
+        }
+
+        return records;
+    }
+
+    private static File getHistoryFile(String category) {
+        return new File(getHistoryDirectory(), category + HISTORY_EXTENSION);
+    }
+
+    private static List<String> getColumns(String category, File historyFile) throws IOException {
+        List<String> columns = columnsByCategory.get(category);
+        if (columns == null && historyFile.isFile() && historyFile.length() > 0) {
+            try (BufferedReader reader = Files.newBufferedReader(historyFile.toPath(), StandardCharsets.UTF_8)) {
+                columns = Arrays.asList(TsvFormat.split(reader.readLine()));
+            }
+            columnsByCategory.put(category, columns);
+        }
+        return columns;
+    }
+}
@@ -2,9 +2,11 @@ package com.umr.reporting;
 
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 import com.umr.core.config.ConfigLoader;
+import com.umr.core.jfr.ReportEvent;
 import com.umr.utils.LogUtil;
 import com.umr.utils.ScreenshotUtils;
 
@@ -75,17 +77,40 @@ public class ReportManager {
      * @return The created ExtentTest instance
      */
     public static synchronized ExtentTest createTest(String testId, String testName, String description) {
+        return createTest(testId, testName, description, 1);
+    }
+
+    /**
+     * Creates a new test in the report for a specific attempt of a test.
+     * Retries appear as separate entries named "(Attempt n)"; later log calls for the test go to the latest attempt.
+     * The superseded attempt is marked as skipped, so only the final attempt counts towards the report totals.
+     *
+     * @param testId The unique test identifier
+     * @param testName The test name
+     * @param description The test description
+     * @param attempt The attempt number, starting at 1
+     * @return The created ExtentTest instance
+     */
+    public static synchronized ExtentTest createTest(String testId, String testName, String description, int attempt) {
         if (extentReports == null) {
             initializeReport();
         }
 
         String testKey = testId + "_" + testName;
-        ExtentTest test = extentReports.createTest(testName, description);
+        ExtentTest previous = testMap.get(testKey);
+        if (attempt > 1 && previous != null) {
+            previous.skip("Retried in attempt " + attempt);
+            // A failed attempt would otherwise keep its FAIL status, which outranks the skip
+            previous.getModel().setStatus(Status.SKIP);
+        }
+
+        String reportName = attempt > 1 ? testName + " (Attempt " + attempt + ")" : testName;
+        ExtentTest test = extentReports.createTest(reportName, description);
         test.assignCategory("Dice Tests");
         test.assignAuthor("Automation Framework");
         testMap.put(testKey, test);
 
-        LogUtil.info("Created test in report: " + testName);
+        LogUtil.info("Created test in report: " + reportName);
         return test;
     }
 
@@ -109,10 +134,12 @@ public class ReportManager {
      * @param details The information to log
      */
     public static synchronized void logInfo(String testId, String testName, String details) {
+        ReportEvent event = ReportEvent.start();
         ExtentTest test = getTest(testId, testName);
         if (test != null) {
             test.info(details);
         }
+        event.finish("logInfo", testId);
     }
 
     /**
@@ -123,10 +150,12 @@ public class ReportManager {
      * @param details The information to log
      */
     public static synchronized void logPass(String testId, String testName, String details) {
+        ReportEvent event = ReportEvent.start();
         ExtentTest test = getTest(testId, testName);
         if (test != null) {
             test.pass(details);
         }
+        event.finish("logPass", testId);
     }
 
     /**
@@ -137,10 +166,12 @@ public class ReportManager {
      * @param details The information to log
      */
     public static synchronized void logFail(String testId, String testName, String details) {
+        ReportEvent event = ReportEvent.start();
         ExtentTest test = getTest(testId, testName);
         if (test != null) {
             test.fail(details);
         }
+        event.finish("logFail", testId);
     }
 
     /**
@@ -151,10 +182,12 @@ public class ReportManager {
      * @param details The information to log
      */
     public static synchronized void logSkip(String testId, String testName, String details) {
+        ReportEvent event = ReportEvent.start();
         ExtentTest test = getTest(testId, testName);
         if (test != null) {
             test.skip(details);
         }
+        event.finish("logSkip", testId);
     }
 
     /**
@@ -165,10 +198,12 @@ public class ReportManager {
      * @param details The information to log
      */
     public static synchronized void logWarning(String testId, String testName, String details) {
+        ReportEvent event = ReportEvent.start();
         ExtentTest test = getTest(testId, testName);
         if (test != null) {
             test.warning(details);
         }
+        event.finish("logWarning", testId);
     }
 
     /**
@@ -180,6 +215,7 @@ public class ReportManager {
      * @param title The title for the screenshot
      */
     public static synchronized void attachScreenshot(String testId, String testName, String screenshotPath, String title) {
+        ReportEvent event = ReportEvent.start();
         try {
             ExtentTest test = getTest(testId, testName);
             if (test != null && screenshotPath != null) {
@@ -199,6 +235,8 @@ public class ReportManager {
             }
         } catch (Exception e) {
             LogUtil.error("Failed to attach screenshot to report: " + e.getMessage(), e);
+        } finally {
+            event.finish("attachScreenshot", testId);
         }
     }
 
@@ -210,10 +248,12 @@ public class ReportManager {
      * @param details The pass details
      */
     public static synchronized void markTestAsPassed(String testId, String testName, String details) {
+        ReportEvent event = ReportEvent.start();
         ExtentTest test = getTest(testId, testName);
         if (test != null) {
             test.pass(details);
         }
+        event.finish("markTestAsPassed", testId);
     }
 
     /**
@@ -224,10 +264,12 @@ public class ReportManager {
      * @param details The failure details
      */
     public static synchronized void markTestAsFailed(String testId, String testName, String details) {
+        ReportEvent event = ReportEvent.start();
         ExtentTest test = getTest(testId, testName);
         if (test != null) {
             test.fail(details);
         }
+        event.finish("markTestAsFailed", testId);
     }
 
     /**
@@ -238,10 +280,24 @@ public class ReportManager {
      * @param details The skip details
      */
     public static synchronized void markTestAsSkipped(String testId, String testName, String details) {
+        ReportEvent event = ReportEvent.start();
         ExtentTest test = getTest(testId, testName);
         if (test != null) {
             test.skip(details);
         }
+        event.finish("markTestAsSkipped", testId);
+    }
+
+    /**
+     * Adds an entry to the system info of the report, e.g. run-wide counters collected during execution.
+     *
+     * @param name The entry name
+     * @param value The entry value
+     */
+    public static synchronized void setSystemInfo(String name, String value) {
+        if (extentReports != null) {
+            extentReports.setSystemInfo(name, value);
+        }
     }
 
     /**
@@ -250,7 +306,9 @@ public class ReportManager {
      */
     public static synchronized void finalizeReport() {
         if (extentReports != null) {
+            ReportEvent event = ReportEvent.start();
             extentReports.flush();
+            event.finish("flush", null);
             LogUtil.info("ExtentReports finalized and written to disk");
         }
     }
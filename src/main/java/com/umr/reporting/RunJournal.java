@@ -0,0 +1,230 @@
+package com.umr.reporting;
+
+import com.umr.core.config.ConfigLoader;
+import com.umr.utils.LogUtil;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Write-ahead journal of completed tests for a single run.
+ * Every completed test is appended as one tab-separated line and synced to disk before the
+ * runner moves on, so a run that dies part-way through can be resumed from the journal.
+ */
+public class RunJournal {
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+    private static final String JOURNAL_PREFIX = "RunJournal_";
+    private static final String JOURNAL_EXTENSION = ".tsv";
+    private static final String[] COLUMNS = {
+            "TestID", "TestName", "Status", "Duration", "JiraTicket", "TecsID", "FailureReason", "Timestamp"
+    };
+
+    private final File journalFile;
+    private FileOutputStream outputStream;
+
+    private RunJournal(File journalFile, boolean append) {
+        this.journalFile = journalFile;
+        try {
+            File parent = journalFile.getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.exists()) {
+                parent.mkdirs();
+            }
+
+            boolean writeHeader = !append || !journalFile.exists() || journalFile.length() == 0;
+            boolean tornTail = !writeHeader && !endsWithNewline(journalFile);
+            this.outputStream = new FileOutputStream(journalFile, append);
+            if (writeHeader) {
+                writeLine(TsvFormat.join(COLUMNS));
+            } else if (tornTail) {
+                // Terminate a partially written line so it cannot swallow the next entry
+                writeLine("");
+            }
+            LogUtil.info("Run journal " + (append ? "resumed" : "created") + ": " + journalFile.getPath());
+        } catch (IOException e) {
+            LogUtil.error("Failed to open run journal: " + journalFile.getPath() + ". Run will not be resumable.", e);
+            this.outputStream = null;
+        }
+    }
+
+    /**
+     * Creates a new, empty journal for the current run in the journal directory.
+     *
+     * @return The new RunJournal
+     */
+    public static RunJournal startNew() {
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+        File journalFile = new File(getJournalDirectory(), JOURNAL_PREFIX + timestamp + JOURNAL_EXTENSION);
+        return new RunJournal(journalFile, false);
+    }
+
+    /**
+     * Reopens an existing journal so that further results are appended to it.
+     *
+     * @param journalFile The journal file to continue
+     * @return The reopened RunJournal
+     */
+    public static RunJournal resume(File journalFile) {
+        return new RunJournal(journalFile, true);
+    }
+
+    /**
+     * Gets the directory journals are written to.
+     *
+     * @return The journal directory
+     */
+    public static File getJournalDirectory() {
+        return new File(config.getProperty("journal.dir", config.getReportsDirectory() + "/journal"));
+    }
+
+    /**
+     * Finds the most recently modified journal in the journal directory.
+     *
+     * @return The latest journal file, or null if none exists
+     */
+    public static File findLatestJournal() {
+        File[] journals = getJournalDirectory().listFiles((dir, name) ->
+                name.startsWith(JOURNAL_PREFIX) && name.endsWith(JOURNAL_EXTENSION));
+
+        if (journals == null || journals.length == 0) {
+            return null;
+        }
+
+        File latest = journals[0];
+        for (File journal : journals) {
+            if (journal.lastModified() > latest.lastModified()) {
+                latest = journal;
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Reads a journal and returns the latest entry for each test, in the order tests were first recorded.
+     * A trailing line that was not completely written (e.g. the process died mid-write) is ignored.
+     *
+     * @param journalFile The journal file to read
+     * @return Map of TestID to the latest journal entry for that test
+     */
+    public static Map<String, JournalEntry> readLatestEntries(File journalFile) {
+        Map<String, JournalEntry> entries = new LinkedHashMap<>();
+
+        try {
+            String content = new String(Files.readAllBytes(journalFile.toPath()), StandardCharsets.UTF_8);
+            String[] lines = content.split("\n", -1);
+
+            // The last segment is either empty (file ends with a newline) or a torn write
+            for (int i = 1; i < lines.length - 1; i++) {
+                String line = lines[i];
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                String[] fields = TsvFormat.split(line);
+                if (fields.length != COLUMNS.length) {
+                    LogUtil.warn("Skipping malformed run journal line " + (i + 1) + " in " + journalFile.getName());
+                    continue;
+                }
+
+                JournalEntry entry = new JournalEntry(fields[0], fields[1], fields[2], fields[3], fields[4],
+                        fields[5], fields[6], fields[7]);
+                entries.remove(entry.testId);
+                entries.put(entry.testId, entry);
+            }
+
+            LogUtil.info("Read " + entries.size() + " completed test(s) from run journal: " + journalFile.getPath());
+        } catch (IOException e) {
+            LogUtil.error("Failed to read run journal: " + journalFile.getPath(), e);
+        }
+
+        return entries;
+    }
+
+    /**
+     * Appends a completed test to the journal and forces it to disk.
+     *
+     * @param entry The journal entry to record
+     */
+    public synchronized void record(JournalEntry entry) {
+        if (outputStream == null) {
+            return;
+        }
+
+        try {
+            writeLine(TsvFormat.join(entry.testId, entry.testName, entry.status, entry.duration,
+                    entry.jiraTicket, entry.tecsId, entry.failureReason, entry.timestamp));
+        } catch (IOException e) {
+            LogUtil.error("Failed to write run journal entry for test: " + entry.testId, e);
+        }
+    }
+
+    /**
+     * Closes the journal. The file is kept as the result record of the run.
+     */
+    public synchronized void close() {
+        if (outputStream != null) {
+            try {
+                outputStream.close();
+            } catch (IOException e) {
+                LogUtil.warn("Failed to close run journal: " + journalFile.getPath(), e);
+            } finally {
+                outputStream = null;
+            }
+        }
+    }
+
+    /**
+     * Gets the journal file.
+     *
+     * @return The journal file
+     */
+    public File getJournalFile() {
+        return journalFile;
+    }
+
+    private void writeLine(String line) throws IOException {
+        outputStream.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+        outputStream.flush();
+        outputStream.getFD().sync();
+    }
+
+    private static boolean endsWithNewline(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            raf.seek(raf.length() - 1);
+            return raf.read() == '\n';
+        }
+    }
+
+    /**
+     * A single completed test as recorded in the journal.
+     */
+    public static class JournalEntry {
+        public final String testId;
+        public final String testName;
+        public final String status;
+        public final String duration;
+        public final String jiraTicket;
+        public final String tecsId;
+        public final String failureReason;
+        public final String timestamp;
+
+        public JournalEntry(String testId, String testName, String status, String duration,
+                            String jiraTicket, String tecsId, String failureReason, String timestamp) {
+            this.testId = testId;
+            this.testName = testName;
+            this.status = status;
+            this.duration = duration;
+            this.jiraTicket = jiraTicket;
+            this.tecsId = tecsId;
+            this.failureReason = failureReason;
+            this.timestamp = timestamp;
+        }
+    }
+}
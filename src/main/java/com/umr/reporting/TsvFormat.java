@@ -0,0 +1,84 @@
+package com.umr.reporting;
+
+/**
+ * Tab-separated line format shared by the run journal and the history store.
+ * Tabs, newlines and backslashes inside values are escaped so that one record is always one line,
+ * and null is written as \0 so it survives a round trip.
+ */
+final class TsvFormat {
+
+    private TsvFormat() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Joins values into a single escaped, tab-separated line (without the line terminator).
+     *
+     * @param values The values to join
+     * @return The formatted line
+     */
+    static String join(String... values) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append('\t');
+            }
+            line.append(escape(values[i]));
+        }
+        return line.toString();
+    }
+
+    /**
+     * Splits a line written by {@link #join(String...)} back into its values.
+     *
+     * @param line The line to split
+     * @return The unescaped values
+     */
+    static String[] split(String line) {
+        String[] fields = line.split("\t", -1);
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = unescape(fields[i]);
+        }
+        return fields;
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "\\0";
+        }
+        return value.replace("\\", "\\\\")
+                .replace("\t", "\\t")
+                .replace("\n", "\\n")
+                .replace("\r", "\\r");
+    }
+
+    private static String unescape(String value) {
+        if ("\\0".equals(value)) {
+            return null;
+        }
+
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                switch (next) {
+                    case 't':
+                        result.append('\t');
+                        break;
+                    case 'n':
+                        result.append('\n');
+                        break;
+                    case 'r':
+                        result.append('\r');
+                        break;
+                    default:
+                        result.append(next);
+                }
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+}
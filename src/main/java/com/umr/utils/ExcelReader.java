@@ -44,6 +44,39 @@ public class ExcelReader {
         return activeTests;
     }
 
+    /**
+     * Gets the given test cases from the TestRunner file, regardless of their Execute flag.
+     * Test cases are returned in TestRunner order.
+     *
+     * @param testIds The test IDs to get
+     * @return A list of maps containing the matching test cases
+     * @throws IOException If the file cannot be read
+     */
+    public static List<Map<String, String>> getTestCases(Set<String> testIds) throws IOException {
+        LogUtil.info("Getting " + testIds.size() + " test case(s) from TestRunner by TestID");
+
+        String testRunnerPath = EXCEL_PATH + "/" + TEST_RUNNER_FILE;
+        List<Map<String, String>> allTests = readExcelFile(testRunnerPath, "TestCases");
+
+        List<Map<String, String>> matchingTests = new ArrayList<>();
+        Set<String> foundIds = new HashSet<>();
+        for (Map<String, String> test : allTests) {
+            String testId = test.get("TestID");
+            if (testIds.contains(testId) && foundIds.add(testId)) {
+                matchingTests.add(test);
+            }
+        }
+
+        for (String testId : testIds) {
+            if (!foundIds.contains(testId)) {
+                LogUtil.warn("Test case not found in TestRunner: " + testId);
+            }
+        }
+
+        LogUtil.info("Found " + matchingTests.size() + " matching test cases");
+        return matchingTests;
+    }
+
     /**
      * Gets the keyword sequence for a specific test ID from the TestFlow file.
      *
@@ -0,0 +1,270 @@
+package com.umr.utils;
+
+import com.umr.core.config.ConfigLoader;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fills a whole form in a single browser round trip.
+ * Fields are filled in order by one asynchronous script (scripts/form-fill.js) that waits inside the browser for fields that are
+ * still being rendered, sets each value through the native value setter (so Angular and other frameworks
+ * see the change) and fires input, change and blur events.
+ * <p>
+ * Fields are addressed as "css:&lt;selector&gt;" or "label:&lt;label text&gt;". For a CSS selector the last
+ * visible, editable match is used; for a label the input next to the last visible label containing the text.
+ */
+public class FormFiller {
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+
+    public static final String FILLED = "filled";
+    public static final String KEPT = "kept";
+    public static final String NOT_FOUND = "not found";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private FormFiller() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Fills the given fields in order in one round trip, using form.fill.timeout.seconds as the time
+     * allowed for fields to render.
+     *
+     * @param driver The WebDriver instance
+     * @param fields Fields in fill order
+     * @return The outcome of every field
+     */
+    public static Result fill(WebDriver driver, List<Field> fields) {
+        return fill(driver, fields, config.getIntProperty("form.fill.timeout.seconds", 15));
+    }
+
+    /**
+     * Fills the given values in order in one round trip. Keys are "css:" or "label:" field locators.
+     *
+     * @param driver The WebDriver instance
+     * @param values Field locators and the values to enter, in fill order
+     * @return The outcome of every field
+     */
+    public static Result fill(WebDriver driver, LinkedHashMap<String, String> values) {
+        List<Field> fields = new ArrayList<>();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            fields.add(Field.of(entry.getKey(), entry.getValue()));
+        }
+        return fill(driver, fields);
+    }
+
+    /**
+     * Fills the given fields in order in one round trip.
+     *
+     * @param driver The WebDriver instance
+     * @param fields Fields in fill order
+     * @param timeoutSeconds Time allowed, for all fields together, for missing fields to render
+     * @return The outcome of every field
+     */
+    @SuppressWarnings("unchecked")
+    public static Result fill(WebDriver driver, List<Field> fields, int timeoutSeconds) {
+        List<Map<String, Object>> payload = new ArrayList<>();
+        for (Field field : fields) {
+            payload.add(field.toScriptArgument());
+        }
+
+        // The script may wait for the full timeout; give the driver a little more before it gives up on the script
+        ScriptRegistry.ensureScriptTimeout(driver, Duration.ofSeconds(timeoutSeconds + 10L));
+
+        long startTime = System.currentTimeMillis();
+        Object response = ScriptRegistry.executeAsync(driver, "form-fill", payload, timeoutSeconds * 1000L);
+
+        if (!(response instanceof List)) {
+            throw new RuntimeException("Form fill script failed: " + response);
+        }
+
+        List<Object> statuses = (List<Object>) response;
+        Result result = new Result();
+        for (int i = 0; i < fields.size(); i++) {
+            result.statuses.put(fields.get(i).getName(), String.valueOf(statuses.get(i)));
+        }
+
+        LogUtil.info("Form filled in " + (System.currentTimeMillis() - startTime) + " ms: " + result);
+        return result;
+    }
+
+    /**
+     * A form field and the value to enter into it.
+     */
+    public static class Field {
+        private static final String DEFAULT_LABEL_INPUT =
+                "input:not([readonly]):not([disabled]), textarea:not([readonly]):not([disabled])";
+
+        private final String type;
+        private final String locator;
+        private final String value;
+        private String name;
+        private String input = DEFAULT_LABEL_INPUT;
+        private boolean onlyIfEmpty;
+        private boolean awaitEmpty;
+
+        private Field(String type, String locator, String value) {
+            this.type = type;
+            this.locator = locator;
+            this.value = value;
+            this.name = type + ":" + locator;
+        }
+
+        /**
+         * Creates a field located by a CSS selector.
+         *
+         * @param selector The CSS selector
+         * @param value The value to enter
+         * @return The field
+         */
+        public static Field css(String selector, String value) {
+            return new Field("css", selector, value);
+        }
+
+        /**
+         * Creates a field located by the text of its label.
+         *
+         * @param labelText Text contained in the label
+         * @param value The value to enter
+         * @return The field
+         */
+        public static Field label(String labelText, String value) {
+            return new Field("label", labelText, value);
+        }
+
+        /**
+         * Creates a field from a "css:" or "label:" locator. A locator without prefix is a CSS selector.
+         *
+         * @param locator The field locator
+         * @param value The value to enter
+         * @return The field
+         */
+        public static Field of(String locator, String value) {
+            if (locator.startsWith("label:")) {
+                return label(locator.substring("label:".length()), value);
+            }
+            if (locator.startsWith("css:")) {
+                return css(locator.substring("css:".length()), value);
+            }
+            return css(locator, value);
+        }
+
+        /**
+         * Restricts a label field to inputs matching a selector within the label's container.
+         *
+         * @param selector The CSS selector of the input
+         * @return This field
+         */
+        public Field input(String selector) {
+            this.input = selector;
+            return this;
+        }
+
+        /**
+         * Only fills the field if it is empty; a pre-filled field is kept. For a CSS selector matching several
+         * fields, the last empty one is filled.
+         *
+         * @return This field
+         */
+        public Field onlyIfEmpty() {
+            this.onlyIfEmpty = true;
+            return this;
+        }
+
+        /**
+         * Fills a field that is still being added to the form: waits until an empty match appears and fills the
+         * last one. Use for fields created by an "Add ..." button next to already filled ones of the same kind.
+         *
+         * @return This field
+         */
+        public Field awaitEmpty() {
+            this.onlyIfEmpty = true;
+            this.awaitEmpty = true;
+            return this;
+        }
+
+        /**
+         * Sets the name the field is reported under.
+         *
+         * @param name The field name
+         * @return This field
+         */
+        public Field named(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        private Map<String, Object> toScriptArgument() {
+            Map<String, Object> argument = new HashMap<>();
+            argument.put("type", type);
+            argument.put("locator", locator);
+            argument.put("input", input);
+            argument.put("value", value);
+            argument.put("onlyIfEmpty", onlyIfEmpty);
+            argument.put("awaitEmpty", awaitEmpty);
+            return argument;
+        }
+    }
+
+    /**
+     * The outcome of a form fill: FILLED, KEPT (already had a value) or NOT_FOUND per field.
+     */
+    public static class Result {
+        private final Map<String, String> statuses = new LinkedHashMap<>();
+
+        /**
+         * Gets the status of a field.
+         *
+         * @param name The field name
+         * @return The status, or null for an unknown field
+         */
+        public String getStatus(String name) {
+            return statuses.get(name);
+        }
+
+        /**
+         * Checks whether a field holds a value after the fill, either entered now or already present.
+         *
+         * @param name The field name
+         * @return True if the field was filled or kept
+         */
+        public boolean isSuccessful(String name) {
+            String status = statuses.get(name);
+            return FILLED.equals(status) || KEPT.equals(status);
+        }
+
+        /**
+         * Checks whether every field holds a value after the fill.
+         *
+         * @return True if no field was missing
+         */
+        public boolean isSuccessful() {
+            for (String name : statuses.keySet()) {
+                if (!isSuccessful(name)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public Map<String, String> getStatuses() {
+            return statuses;
+        }
+
+        @Override
+        public String toString() {
+            return statuses.toString();
+        }
+    }
+}
@@ -1,14 +1,35 @@
 package com.umr.utils;
 
+import com.umr.core.config.ConfigLoader;
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.function.Supplier;
 
 /**
  * Utility class for logging across the framework.
  * Provides consistent logging methods and formats.
+ * Between {@link #startTest} and {@link #endTest} the thread's log context carries the test ID, which tags each
+ * line of the combined log and routes it to the test's own file under logs/tests (see log4j2.xml).
+ * With log.buffer.enabled, debug and info messages logged during a test are kept in a bounded per-test buffer
+ * instead of being written, and are only written if the test fails; messages passed as suppliers are not
+ * even built unless that happens.
  */
 public class LogUtil {
     private static final Logger logger = LogManager.getLogger("com.umr");
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+
+    private static final ThreadLocal<TestBuffer> bufferThreadLocal = new ThreadLocal<>();
+
+    /**
+     * Log context key holding the ID of the test the current thread is running.
+     */
+    public static final String TEST_ID_KEY = "testId";
 
     /**
      * Private constructor to prevent instantiation.
@@ -23,7 +44,20 @@ public class LogUtil {
      * @param message The message to log
      */
     public static void debug(String message) {
-        logger.debug(message);
+        if (!buffer(Level.DEBUG, message)) {
+            logger.debug(message);
+        }
+    }
+
+    /**
+     * Logs a debug message that is only built if it is written.
+     *
+     * @param message Supplies the message to log
+     */
+    public static void debug(Supplier<String> message) {
+        if (!buffer(Level.DEBUG, message) && logger.isDebugEnabled()) {
+            logger.debug(message.get());
+        }
     }
 
     /**
@@ -32,7 +66,20 @@ public class LogUtil {
      * @param message The message to log
      */
     public static void info(String message) {
-        logger.info(message);
+        if (!buffer(Level.INFO, message)) {
+            logger.info(message);
+        }
+    }
+
+    /**
+     * Logs an info message that is only built if it is written.
+     *
+     * @param message Supplies the message to log
+     */
+    public static void info(Supplier<String> message) {
+        if (!buffer(Level.INFO, message) && logger.isInfoEnabled()) {
+            logger.info(message.get());
+        }
     }
 
     /**
@@ -74,28 +121,43 @@ public class LogUtil {
     }
 
     /**
-     * Logs the start of a test case.
+     * Logs the start of a test case and routes the thread's following lines to the test's log file.
      *
      * @param testId The test ID
      * @param testName The test name
      */
     public static void startTest(String testId, String testName) {
+        // The ID names the test's log file, so keep it to characters that are safe in a file name
+        ThreadContext.put(TEST_ID_KEY, testId != null ? testId.replaceAll("[^A-Za-z0-9._-]", "_") : "unknown");
         logger.info("======================================================");
         logger.info("STARTING TEST: {} - {}", testId, testName);
         logger.info("======================================================");
+
+        if (config.getBooleanProperty("log.buffer.enabled", false)) {
+            bufferThreadLocal.set(new TestBuffer(Math.max(1, config.getIntProperty("log.buffer.size", 500))));
+        } else {
+            bufferThreadLocal.remove();
+        }
     }
 
     /**
-     * Logs the end of a test case with result.
+     * Logs the end of a test case with result and stops routing the thread's lines to the test's log file.
+     * Unless the test passed, the debug and info messages still buffered for it are written first.
      *
      * @param testId The test ID
      * @param testName The test name
      * @param result The test result (PASS/FAIL)
      */
     public static void endTest(String testId, String testName, String result) {
+        if (!"PASS".equalsIgnoreCase(result) && !"PASSED".equalsIgnoreCase(result)) {
+            dumpTestBuffer("Test " + testId + " ended with result " + result);
+        }
+        bufferThreadLocal.remove();
+
         logger.info("======================================================");
         logger.info("TEST COMPLETED: {} - {} with result: {}", testId, testName, result);
         logger.info("======================================================");
+        ThreadContext.remove(TEST_ID_KEY);
     }
 
     /**
@@ -120,4 +182,77 @@ public class LogUtil {
             logger.error("Keyword execution failed: {}", keyword);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Writes the debug and info messages buffered for the current thread's test, oldest first, and empties
+     * the buffer. Does nothing if no messages are buffered.
+     *
+     * @param reason Why the messages are written, e.g. the failure
+     */
+    public static void dumpTestBuffer(String reason) {
+        TestBuffer buffer = bufferThreadLocal.get();
+        if (buffer == null || buffer.events.isEmpty()) {
+            return;
+        }
+
+        logger.info("---- {} buffered log message(s) before: {}{} ----", buffer.events.size(), reason,
+                buffer.dropped > 0 ? " (" + buffer.dropped + " earlier message(s) dropped)" : "");
+        SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+        for (BufferedEvent event : buffer.events) {
+            String message;
+            try {
+                message = event.message instanceof Supplier ? String.valueOf(((Supplier<?>) event.message).get())
+                        : String.valueOf(event.message);
+            } catch (RuntimeException e) {
+                message = "<message could not be built: " + e + ">";
+            }
+            // Written at info level so buffered debug messages show up with the logger's default level
+            logger.info("[{} {}] {}", timeFormat.format(new Date(event.timeMillis)), event.level, message);
+        }
+        logger.info("---- end of buffered log messages ----");
+        buffer.events.clear();
+        buffer.dropped = 0;
+    }
+
+    private static boolean buffer(Level level, Object message) {
+        TestBuffer buffer = bufferThreadLocal.get();
+        if (buffer == null) {
+            return false;
+        }
+        if (buffer.events.size() >= buffer.capacity) {
+            buffer.events.pollFirst();
+            buffer.dropped++;
+        }
+        buffer.events.addLast(new BufferedEvent(System.currentTimeMillis(), level, message));
+        return true;
+    }
+
+    /**
+     * The most recent debug and info messages of the test running on a thread.
+     */
+    private static class TestBuffer {
+        private final int capacity;
+        private final ArrayDeque<BufferedEvent> events;
+        private long dropped;
+
+        private TestBuffer(int capacity) {
+            this.capacity = capacity;
+            this.events = new ArrayDeque<>(Math.min(capacity, 1024));
+        }
+    }
+
+    /**
+     * A buffered message; the message is a String or a Supplier that has not been called yet.
+     */
+    private static class BufferedEvent {
+        private final long timeMillis;
+        private final Level level;
+        private final Object message;
+
+        private BufferedEvent(long timeMillis, Level level, Object message) {
+            this.timeMillis = timeMillis;
+            this.level = level;
+            this.message = message;
+        }
+    }
+}
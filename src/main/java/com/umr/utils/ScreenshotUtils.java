@@ -2,6 +2,7 @@ package com.umr.utils;
 
 import com.umr.core.DriverManager;
 import com.umr.core.config.ConfigLoader;
+import com.umr.core.jfr.ScreenshotEvent;
 import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
@@ -22,7 +23,7 @@ import java.util.Date;
 public class ScreenshotUtils {
     private static final ConfigLoader config = ConfigLoader.getInstance();
     private static final String SCREENSHOT_DIR = config.getScreenshotsDirectory();
-    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyyMMdd_HHmmss");
+    private static final String TIMESTAMP_PATTERN = "yyyyMMdd_HHmmss";
 
     static {
         // Ensure the screenshot directory exists
@@ -80,9 +81,11 @@ public class ScreenshotUtils {
         // Clean the filename to remove invalid characters
         fileName = sanitizeFileName(fileName);
 
+        ScreenshotEvent event = ScreenshotEvent.start();
+        boolean saved = false;
         try {
-            // Add timestamp to ensure unique filenames
-            String timestamp = DATE_FORMAT.format(new Date());
+            // Add timestamp to ensure unique filenames (SimpleDateFormat is not thread-safe, so one per call)
+            String timestamp = new SimpleDateFormat(TIMESTAMP_PATTERN).format(new Date());
             String screenshotFileName = fileName + "_" + timestamp + ".png";
             String filePath = SCREENSHOT_DIR + File.separator + screenshotFileName;
             File destFile = new File(filePath);
@@ -94,10 +97,13 @@ public class ScreenshotUtils {
             LogUtil.info("Screenshot saved: " + filePath);
 
             // Return the full path for internal use
+            saved = true;
             return filePath;
         } catch (Exception e) {
             LogUtil.error("Failed to take screenshot: " + fileName, e);
             return null;
+        } finally {
+            event.finish(fileName, saved);
         }
     }
 
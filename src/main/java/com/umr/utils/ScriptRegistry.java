@@ -0,0 +1,147 @@
+package com.umr.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs the in-browser scripts kept under src/main/resources/scripts by name.
+ * Each script file declares a function named run. The source is read from the classpath once per JVM and
+ * installed into a page the first time it is used there; every later call only sends a small stub that invokes
+ * the installed function, so the script is transferred and parsed once per document instead of once per call.
+ * After a navigation the script is installed again on first use.
+ */
+public class ScriptRegistry {
+    private static final String SCRIPTS_PATH = "/scripts/";
+    private static final String MISSING = "__cbp_script_missing__";
+
+    private static final String INSTALL_PREFIX =
+            "window.__cbpScripts = window.__cbpScripts || {};" +
+            "window.__cbpScripts[arguments[0]] = (function() {\n";
+    private static final String INSTALL_SUFFIX = "\nreturn run;\n})();";
+
+    private static final String CALL_STUB =
+            "var lib = window.__cbpScripts, name = arguments[0];" +
+            "if (!lib || !lib[name]) return '" + MISSING + "';" +
+            "return lib[name].apply(null, Array.prototype.slice.call(arguments, 1));";
+
+    private static final String ASYNC_CALL_STUB =
+            "var lib = window.__cbpScripts, name = arguments[0], done = arguments[arguments.length - 1];" +
+            "if (!lib || !lib[name]) { done('" + MISSING + "'); return; }" +
+            "lib[name].apply(null, Array.prototype.slice.call(arguments, 1));";
+
+    private static final Map<String, String> installScripts = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ScriptRegistry() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Runs a script synchronously. A promise returned by the script is awaited by the driver.
+     *
+     * @param driver The WebDriver instance
+     * @param name The script name (file name without .js)
+     * @param args Arguments passed to the script's run function
+     * @return The script result
+     */
+    public static Object execute(WebDriver driver, String name, Object... args) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        Object[] callArgs = prepend(name, args);
+
+        Object result = js.executeScript(CALL_STUB, callArgs);
+        if (MISSING.equals(result)) {
+            install(js, name);
+            result = js.executeScript(CALL_STUB, callArgs);
+        }
+        return checkInstalled(name, result);
+    }
+
+    /**
+     * Runs an asynchronous script. The script's run function receives the driver's callback as its last argument.
+     *
+     * @param driver The WebDriver instance
+     * @param name The script name (file name without .js)
+     * @param args Arguments passed to the script's run function, before the callback
+     * @return The value passed to the callback
+     */
+    public static Object executeAsync(WebDriver driver, String name, Object... args) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        Object[] callArgs = prepend(name, args);
+
+        Object result = js.executeAsyncScript(ASYNC_CALL_STUB, callArgs);
+        if (MISSING.equals(result)) {
+            install(js, name);
+            result = js.executeAsyncScript(ASYNC_CALL_STUB, callArgs);
+        }
+        return checkInstalled(name, result);
+    }
+
+    /**
+     * Makes sure the driver waits at least the given time for asynchronous scripts.
+     * Call before running a script that may legitimately wait longer than the session's script timeout.
+     *
+     * @param driver The WebDriver instance
+     * @param timeout The minimum script timeout
+     */
+    public static void ensureScriptTimeout(WebDriver driver, Duration timeout) {
+        if (driver.manage().timeouts().getScriptTimeout().compareTo(timeout) < 0) {
+            driver.manage().timeouts().scriptTimeout(timeout);
+        }
+    }
+
+    /**
+     * Gets the source of a script.
+     *
+     * @param name The script name (file name without .js)
+     * @return The script source
+     */
+    public static String getSource(String name) {
+        String resource = SCRIPTS_PATH + name + ".js";
+        try (InputStream in = ScriptRegistry.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new RuntimeException("Script not found on classpath: " + resource);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read script: " + resource, e);
+        }
+    }
+
+    private static void install(JavascriptExecutor js, String name) {
+        String installScript = installScripts.computeIfAbsent(name,
+                key -> INSTALL_PREFIX + getSource(key) + INSTALL_SUFFIX);
+        js.executeScript(installScript, name);
+        LogUtil.debug("Installed script in page: " + name);
+    }
+
+    private static Object checkInstalled(String name, Object result) {
+        // Still missing right after installing: the page navigated in between
+        if (MISSING.equals(result)) {
+            throw new RuntimeException("Script could not be installed in the current page: " + name);
+        }
+        return result;
+    }
+
+    private static Object[] prepend(String name, Object[] args) {
+        Object[] callArgs = new Object[args.length + 1];
+        callArgs[0] = name;
+        System.arraycopy(args, 0, callArgs, 1, args.length);
+        return callArgs;
+    }
+}
@@ -0,0 +1,186 @@
+package com.umr.utils;
+
+import com.umr.core.DriverManager;
+import com.umr.core.config.ConfigLoader;
+import com.umr.core.devtools.NetworkIdleMonitor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed delays with an optional audit of how much of each delay was wasted.
+ * Without sleep.audit.enabled, {@link #sleep(long)} is a plain Thread.sleep. In audit mode the sleeping thread
+ * polls the page during the delay (document complete, no pending network requests, no DOM change for
+ * sleep.audit.quiet.millis) and records per call site how long the page had already been ready when the delay
+ * ended. The delay itself always runs to its full length, so auditing does not change test behaviour.
+ * At the end of the run the call sites are written ranked by total wasted time.
+ */
+public class SleepAuditor {
+    private static final ConfigLoader config = ConfigLoader.getInstance();
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private static final Map<String, SiteStats> statsBySite = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SleepAuditor() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Sleeps for a fixed time, auditing the delay in audit mode.
+     *
+     * @param millis The delay in milliseconds
+     * @throws InterruptedException If the thread is interrupted while sleeping
+     */
+    public static void sleep(long millis) throws InterruptedException {
+        if (!config.getBooleanProperty("sleep.audit.enabled", false)) {
+            Thread.sleep(millis);
+            return;
+        }
+
+        WebDriver driver;
+        try {
+            driver = DriverManager.getDriver();
+        } catch (IllegalStateException e) {
+            // No browser session to watch
+            Thread.sleep(millis);
+            return;
+        }
+        audit(driver, callSite(), millis);
+    }
+
+    /**
+     * Writes the audited call sites, ranked by total wasted time, and logs the worst ones.
+     * Does nothing if no delay was audited.
+     *
+     * @param runId The run identifier, used in the report file name
+     */
+    public static void writeReport(String runId) {
+        if (statsBySite.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, SiteStats>> ranked = new ArrayList<>(statsBySite.entrySet());
+        ranked.sort(Comparator.comparingLong((Map.Entry<String, SiteStats> entry) -> entry.getValue().wastedMillis.sum())
+                .reversed());
+
+        File reportFile = new File(config.getProperty("sleep.audit.dir", config.getReportsDirectory() + "/sleep-audit"),
+                "sleep-audit_" + runId + ".tsv");
+        reportFile.getAbsoluteFile().getParentFile().mkdirs();
+        try (PrintWriter writer = new PrintWriter(reportFile, StandardCharsets.UTF_8)) {
+            writer.println("CallSite\tCalls\tSleptSeconds\tWastedSeconds\tWastedPercent\tNeverReadyCalls");
+            for (Map.Entry<String, SiteStats> entry : ranked) {
+                SiteStats stats = entry.getValue();
+                writer.println(entry.getKey() + "\t" + stats.calls.sum() + "\t" + seconds(stats.sleptMillis.sum()) +
+                        "\t" + seconds(stats.wastedMillis.sum()) + "\t" + stats.getWastedPercent() + "\t" +
+                        stats.neverReadyCalls.sum());
+            }
+        } catch (IOException e) {
+            LogUtil.error("Failed to write sleep audit report: " + reportFile.getPath(), e);
+            return;
+        }
+
+        long totalWasted = 0;
+        for (SiteStats stats : statsBySite.values()) {
+            totalWasted += stats.wastedMillis.sum();
+        }
+        LogUtil.info("Sleep audit: " + seconds(totalWasted) + "s wasted in fixed delays at " + ranked.size() +
+                " call site(s); report: " + reportFile.getPath());
+        for (Map.Entry<String, SiteStats> entry : ranked.subList(0, Math.min(10, ranked.size()))) {
+            SiteStats stats = entry.getValue();
+            LogUtil.info("  " + entry.getKey() + ": " + seconds(stats.wastedMillis.sum()) + "s wasted of " +
+                    seconds(stats.sleptMillis.sum()) + "s in " + stats.calls.sum() + " call(s)");
+        }
+    }
+
+    private static void audit(WebDriver driver, String site, long millis) throws InterruptedException {
+        long pollMillis = Math.max(20, config.getIntProperty("sleep.audit.poll.millis", 100));
+        long quietMillis = config.getIntProperty("sleep.audit.quiet.millis", 300);
+        NetworkIdleMonitor monitor = NetworkIdleMonitor.get(driver);
+
+        long start = System.currentTimeMillis();
+        long deadline = start + millis;
+        // Start of the current stretch in which the document was complete with no pending requests
+        long loadedSince = -1;
+        // Time from which the page has been ready without interruption, -1 while it is not ready
+        long readySince = -1;
+
+        long now = start;
+        while (now < deadline) {
+            try {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> probe = (Map<String, Object>) ScriptRegistry.execute(driver, "sleep-audit-probe");
+                now = System.currentTimeMillis();
+                boolean loaded = "complete".equals(probe.get("readyState"))
+                        && (monitor == null || monitor.getInFlightCount() == 0);
+                long sinceMutation = ((Number) probe.get("sinceMutation")).longValue();
+
+                if (!loaded) {
+                    loadedSince = -1;
+                    readySince = -1;
+                } else {
+                    if (loadedSince < 0) {
+                        loadedSince = now;
+                    }
+                    readySince = sinceMutation >= quietMillis ? Math.max(loadedSince, now - sinceMutation) : -1;
+                }
+            } catch (WebDriverException | ClassCastException e) {
+                // Navigating or the session is busy: the page is not ready
+                now = System.currentTimeMillis();
+                loadedSince = -1;
+                readySince = -1;
+            }
+
+            Thread.sleep(Math.max(0, Math.min(pollMillis, deadline - now)));
+            now = System.currentTimeMillis();
+        }
+
+        SiteStats stats = statsBySite.computeIfAbsent(site, key -> new SiteStats());
+        stats.calls.increment();
+        stats.sleptMillis.add(millis);
+        if (readySince >= 0) {
+            stats.wastedMillis.add(Math.min(millis, Math.max(0, deadline - readySince)));
+        } else {
+            stats.neverReadyCalls.increment();
+        }
+    }
+
+    private static String callSite() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> !frame.getClassName().equals(SleepAuditor.class.getName()))
+                .findFirst()
+                .map(frame -> frame.getFileName() + ":" + frame.getLineNumber() + " (" + frame.getMethodName() + ")")
+                .orElse("unknown"));
+    }
+
+    private static String seconds(long millis) {
+        return String.format("%.1f", millis / 1000.0);
+    }
+
+    /**
+     * Audit totals of one call site.
+     */
+    private static class SiteStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder sleptMillis = new LongAdder();
+        private final LongAdder wastedMillis = new LongAdder();
+        private final LongAdder neverReadyCalls = new LongAdder();
+
+        private long getWastedPercent() {
+            long slept = sleptMillis.sum();
+            return slept > 0 ? wastedMillis.sum() * 100 / slept : 0;
+        }
+    }
+}
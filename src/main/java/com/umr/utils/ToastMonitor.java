@@ -0,0 +1,122 @@
+package com.umr.utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Watches the current page for error toasts.
+ * The page-side monitor (scripts/toast-monitor-*.js) records every error toast as it appears, so a toast that
+ * disappears again before it is checked is still reported. Java drains the recorded errors in one call and can
+ * wait for an error with an early exit instead of sleeping for a fixed time.
+ * The monitor lives in the page; after a navigation it is installed again on the next call.
+ */
+public class ToastMonitor {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ToastMonitor() {
+        // Utility class, should not be instantiated
+    }
+
+    /**
+     * Installs the monitor in the current page. Does nothing if it is already installed.
+     * Install before an action whose error toast should be caught.
+     *
+     * @param driver The WebDriver instance
+     */
+    public static void install(WebDriver driver) {
+        if (Boolean.TRUE.equals(ScriptRegistry.execute(driver, "toast-monitor-install"))) {
+            LogUtil.debug("Error toast monitor installed");
+        }
+    }
+
+    /**
+     * Takes all errors recorded since the last drain. Installs the monitor if the page has none yet,
+     * in which case only error toasts visible right now are reported.
+     *
+     * @param driver The WebDriver instance
+     * @return The recorded errors, oldest first
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Toast> drain(WebDriver driver) {
+        Object recorded = ScriptRegistry.execute(driver, "toast-monitor-drain");
+        if (recorded == null) {
+            install(driver);
+            recorded = ScriptRegistry.execute(driver, "toast-monitor-drain");
+        }
+        if (recorded == null) {
+            return Collections.emptyList();
+        }
+
+        List<Toast> toasts = new ArrayList<>();
+        for (Object entry : (List<Object>) recorded) {
+            Map<String, Object> values = (Map<String, Object>) entry;
+            toasts.add(new Toast(String.valueOf(values.get("summary")), String.valueOf(values.get("detail")),
+                    ((Number) values.get("timestamp")).longValue()));
+        }
+        return toasts;
+    }
+
+    /**
+     * Waits until an error toast has been recorded or the timeout has passed, then drains the recorded errors.
+     * Returns as soon as an error appears.
+     *
+     * @param driver The WebDriver instance
+     * @param timeout Maximum time to wait
+     * @return The recorded errors; empty if none appeared within the timeout
+     */
+    public static List<Toast> awaitErrors(WebDriver driver, Duration timeout) {
+        install(driver);
+        ScriptRegistry.ensureScriptTimeout(driver, timeout.plusSeconds(10));
+
+        Object appeared = ScriptRegistry.executeAsync(driver, "toast-monitor-await", timeout.toMillis());
+        if (appeared == null) {
+            // The page navigated while waiting; the new page gets its own monitor
+            LogUtil.debug("Page changed while waiting for error toasts");
+        }
+        return drain(driver);
+    }
+
+    /**
+     * An error toast recorded by the monitor.
+     */
+    public static class Toast {
+        private final String summary;
+        private final String detail;
+        private final long timestamp;
+
+        private Toast(String summary, String detail, long timestamp) {
+            this.summary = summary;
+            this.detail = detail;
+            this.timestamp = timestamp;
+        }
+
+        public String getSummary() {
+            return summary;
+        }
+
+        public String getDetail() {
+            return detail;
+        }
+
+        /**
+         * Gets the time the toast appeared.
+         *
+         * @return Epoch milliseconds in browser time
+         */
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        @Override
+        public String toString() {
+            return summary + ": " + detail;
+        }
+    }
+}
@@ -2,13 +2,17 @@ package com.umr.utils;
 
 import com.umr.core.DriverManager;
 import com.umr.core.config.ConfigLoader;
+import com.umr.core.devtools.NetworkIdleMonitor;
+import com.umr.core.jfr.WaitEvent;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.*;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -16,6 +20,11 @@ import java.util.stream.Collectors;
  * Provides robust element operations with built-in waits and error handling.
  */
 public class WebElementUtils {
+    // Busy indicators of PrimeNG and Angular Material; menus and dialogs are not busy and are left out
+    private static final String DEFAULT_BUSY_SELECTORS =
+            ".p-progress-spinner, .p-progressbar-indeterminate, .p-blockui, .p-datatable-loading-overlay, " +
+            "mat-spinner, mat-progress-spinner, mat-progress-bar[mode='indeterminate'], .ng-animating";
+
     private final WebDriver driver;
     private final WebDriverWait wait;
     private final WebDriverWait shortWait;
@@ -65,9 +74,9 @@ public class WebElementUtils {
      * @return The visible WebElement
      */
     public WebElement waitForVisible(By locator) {
-        LogUtil.debug("Waiting for element to be visible: " + locator);
+        LogUtil.debug(() -> "Waiting for element to be visible: " + locator);
         try {
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            return recordWait("visible " + locator, () -> wait.until(ExpectedConditions.visibilityOfElementLocated(locator)));
         } catch (TimeoutException e) {
             LogUtil.error("Element not visible after " + defaultTimeout + " seconds: " + locator);
             throw e;
@@ -81,9 +90,9 @@ public class WebElementUtils {
      * @return The clickable WebElement
      */
     public WebElement waitForClickable(By locator) {
-        LogUtil.debug("Waiting for element to be clickable: " + locator);
+        LogUtil.debug(() -> "Waiting for element to be clickable: " + locator);
         try {
-            return wait.until(ExpectedConditions.elementToBeClickable(locator));
+            return recordWait("clickable " + locator, () -> wait.until(ExpectedConditions.elementToBeClickable(locator)));
         } catch (TimeoutException e) {
             LogUtil.error("Element not clickable after " + defaultTimeout + " seconds: " + locator);
             throw e;
@@ -97,9 +106,9 @@ public class WebElementUtils {
      * @return The present WebElement
      */
     public WebElement waitForPresent(By locator) {
-        LogUtil.debug("Waiting for element to be present: " + locator);
+        LogUtil.debug(() -> "Waiting for element to be present: " + locator);
         try {
-            return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+            return recordWait("present " + locator, () -> wait.until(ExpectedConditions.presenceOfElementLocated(locator)));
         } catch (TimeoutException e) {
             LogUtil.error("Element not present after " + defaultTimeout + " seconds: " + locator);
             throw e;
@@ -113,9 +122,9 @@ public class WebElementUtils {
      * @return A list of present WebElements
      */
     public List<WebElement> waitForAllPresent(By locator) {
-        LogUtil.debug("Waiting for all elements to be present: " + locator);
+        LogUtil.debug(() -> "Waiting for all elements to be present: " + locator);
         try {
-            return wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
+            return recordWait("all present " + locator, () -> wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator)));
         } catch (TimeoutException e) {
             LogUtil.error("Elements not present after " + defaultTimeout + " seconds: " + locator);
             throw e;
@@ -129,13 +138,13 @@ public class WebElementUtils {
      */
     public void click(By locator) {
         String elementDesc = locator.toString();
-        LogUtil.debug("Clicking on element: " + elementDesc);
+        LogUtil.debug(() -> "Clicking on element: " + elementDesc);
 
         try {
             WebElement element = waitForClickable(locator);
             try {
                 element.click();
-                LogUtil.debug("Successfully clicked element: " + elementDesc);
+                LogUtil.debug(() -> "Successfully clicked element: " + elementDesc);
             } catch (ElementClickInterceptedException e) {
                 LogUtil.warn("Element click intercepted, trying JavaScript click: " + elementDesc);
                 jsExecutor.executeScript("arguments[0].click();", element);
@@ -162,7 +171,7 @@ public class WebElementUtils {
      */
     public void type(By locator, String text) {
         String elementDesc = locator.toString();
-        LogUtil.debug("Typing text into element: " + elementDesc + " Text: " + text);
+        LogUtil.debug(() -> "Typing text into element: " + elementDesc + " Text: " + text);
 
         try {
             WebElement element = waitForVisible(locator);
@@ -186,7 +195,7 @@ public class WebElementUtils {
                 element.sendKeys(text);
             }
 
-            LogUtil.debug("Successfully typed text into element: " + elementDesc);
+            LogUtil.debug(() -> "Successfully typed text into element: " + elementDesc);
         } catch (Exception e) {
             LogUtil.error("Failed to type text into element: " + elementDesc, e);
             throw new RuntimeException("Failed to type text into element: " + elementDesc, e);
@@ -201,13 +210,13 @@ public class WebElementUtils {
      */
     public void selectByVisibleText(By locator, String visibleText) {
         String elementDesc = locator.toString();
-        LogUtil.debug("Selecting option with text '" + visibleText + "' from dropdown: " + elementDesc);
+        LogUtil.debug(() -> "Selecting option with text '" + visibleText + "' from dropdown: " + elementDesc);
 
         try {
             WebElement element = waitForPresent(locator);
             Select select = new Select(element);
             select.selectByVisibleText(visibleText);
-            LogUtil.debug("Successfully selected option: " + visibleText);
+            LogUtil.debug(() -> "Successfully selected option: " + visibleText);
         } catch (Exception e) {
             LogUtil.error("Failed to select option: " + visibleText, e);
             throw new RuntimeException("Failed to select option: " + visibleText, e);
@@ -222,13 +231,13 @@ public class WebElementUtils {
      */
     public void selectByValue(By locator, String value) {
         String elementDesc = locator.toString();
-        LogUtil.debug("Selecting option with value '" + value + "' from dropdown: " + elementDesc);
+        LogUtil.debug(() -> "Selecting option with value '" + value + "' from dropdown: " + elementDesc);
 
         try {
             WebElement element = waitForPresent(locator);
             Select select = new Select(element);
             select.selectByValue(value);
-            LogUtil.debug("Successfully selected option with value: " + value);
+            LogUtil.debug(() -> "Successfully selected option with value: " + value);
         } catch (Exception e) {
             LogUtil.error("Failed to select option with value: " + value, e);
             throw new RuntimeException("Failed to select option with value: " + value, e);
@@ -243,12 +252,12 @@ public class WebElementUtils {
      */
     public String getText(By locator) {
         String elementDesc = locator.toString();
-        LogUtil.debug("Getting text from element: " + elementDesc);
+        LogUtil.debug(() -> "Getting text from element: " + elementDesc);
 
         try {
             WebElement element = waitForVisible(locator);
             String text = element.getText();
-            LogUtil.debug("Got text: '" + text + "' from element: " + elementDesc);
+            LogUtil.debug(() -> "Got text: '" + text + "' from element: " + elementDesc);
             return text;
         } catch (Exception e) {
             LogUtil.error("Failed to get text from element: " + elementDesc, e);
@@ -265,12 +274,12 @@ public class WebElementUtils {
      */
     public String getAttribute(By locator, String attribute) {
         String elementDesc = locator.toString();
-        LogUtil.debug("Getting attribute '" + attribute + "' from element: " + elementDesc);
+        LogUtil.debug(() -> "Getting attribute '" + attribute + "' from element: " + elementDesc);
 
         try {
             WebElement element = waitForPresent(locator);
             String value = element.getAttribute(attribute);
-            LogUtil.debug("Got attribute value: '" + value + "' for attribute: " + attribute);
+            LogUtil.debug(() -> "Got attribute value: '" + value + "' for attribute: " + attribute);
             return value;
         } catch (Exception e) {
             LogUtil.error("Failed to get attribute from element: " + elementDesc, e);
@@ -278,24 +287,70 @@ public class WebElementUtils {
         }
     }
 
+    /**
+     * Finds elements without waiting, regardless of the configured implicit wait.
+     * Use for negative checks, which would otherwise cost the full implicit wait when nothing matches.
+     *
+     * @param locator The element locator
+     * @return The matching elements; empty if none are present right now
+     */
+    public List<WebElement> findNow(By locator) {
+        if (DriverManager.isExplicitWaitMode()) {
+            return driver.findElements(locator);
+        }
+
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            return driver.findElements(locator);
+        } finally {
+            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(DriverManager.getImplicitWaitSeconds()));
+        }
+    }
+
+    /**
+     * Checks if an element is present in the DOM right now, without waiting.
+     *
+     * @param locator The element locator
+     * @return true if at least one matching element is present, false otherwise
+     */
+    public boolean isPresentNow(By locator) {
+        return !findNow(locator).isEmpty();
+    }
+
     /**
      * Checks if an element is displayed.
+     * In explicit-wait-only mode this is an immediate check; otherwise it waits briefly for the element to appear.
      *
      * @param locator The element locator
      * @return true if the element is displayed, false otherwise
      */
     public boolean isDisplayed(By locator) {
         String elementDesc = locator.toString();
-        LogUtil.debug("Checking if element is displayed: " + elementDesc);
+        LogUtil.debug(() -> "Checking if element is displayed: " + elementDesc);
+
+        if (DriverManager.isExplicitWaitMode()) {
+            try {
+                for (WebElement element : findNow(locator)) {
+                    if (element.isDisplayed()) {
+                        LogUtil.debug("Element is displayed: true");
+                        return true;
+                    }
+                }
+            } catch (StaleElementReferenceException e) {
+                LogUtil.debug(() -> "Element went stale while checking display state: " + elementDesc);
+            }
+            LogUtil.debug(() -> "Element is not displayed: " + elementDesc);
+            return false;
+        }
 
         try {
             // Use a shorter timeout for is-displayed checks to avoid long waits when element doesn't exist
             WebElement element = shortWait.until(ExpectedConditions.presenceOfElementLocated(locator));
             boolean displayed = element.isDisplayed();
-            LogUtil.debug("Element is displayed: " + displayed);
+            LogUtil.debug(() -> "Element is displayed: " + displayed);
             return displayed;
         } catch (TimeoutException | NoSuchElementException e) {
-            LogUtil.debug("Element is not displayed: " + elementDesc);
+            LogUtil.debug(() -> "Element is not displayed: " + elementDesc);
             return false;
         }
     }
@@ -307,22 +362,104 @@ public class WebElementUtils {
         LogUtil.debug("Waiting for page to load completely");
 
         try {
-            wait.until(driver -> (Boolean) ((JavascriptExecutor) driver)
-                    .executeScript("return document.readyState").equals("complete"));
+            recordWait("page load", () -> wait.until(driver -> (Boolean) ((JavascriptExecutor) driver)
+                    .executeScript("return document.readyState").equals("complete")));
             LogUtil.debug("Page loaded successfully");
         } catch (TimeoutException e) {
             LogUtil.warn("Page load timeout reached. Continuing anyway.");
         }
     }
 
+    /**
+     * Waits until the Angular/PrimeNG application is idle: every Angular testability reports stable and no
+     * spinner, progress bar or blocking overlay (app.stable.busy.selectors) is visible for app.stable.quiet.millis.
+     * The wait runs inside the browser and returns as soon as the application is idle, so it replaces the
+     * document.readyState check plus fixed sleep after navigations and actions that load data.
+     *
+     * @return True if the application became idle, false on timeout
+     */
+    @SuppressWarnings("unchecked")
+    public boolean waitForAppStable() {
+        int timeoutSeconds = config.getIntProperty("app.stable.timeout.seconds", defaultTimeout);
+        long quietMillis = config.getIntProperty("app.stable.quiet.millis", 100);
+        String busySelectors = config.getProperty("app.stable.busy.selectors", DEFAULT_BUSY_SELECTORS);
+        LogUtil.debug("Waiting for application to become stable");
+
+        ScriptRegistry.ensureScriptTimeout(driver, Duration.ofSeconds(timeoutSeconds + 10L));
+        WaitEvent event = WaitEvent.start();
+        Map<String, Object> result;
+        try {
+            result = (Map<String, Object>) ScriptRegistry.executeAsync(driver, "app-stable",
+                    busySelectors, quietMillis, timeoutSeconds * 1000L);
+        } catch (WebDriverException e) {
+            // The page navigated away during the wait; wait for the new page instead
+            LogUtil.debug(() -> "Page changed while waiting for application stability: " + e.getMessage());
+            waitForPageLoad();
+            result = (Map<String, Object>) ScriptRegistry.executeAsync(driver, "app-stable",
+                    busySelectors, quietMillis, timeoutSeconds * 1000L);
+        }
+
+        boolean stable = Boolean.TRUE.equals(result.get("stable"));
+        event.finish("application stable", stable);
+        if (stable) {
+            LogUtil.debug("Application stable after " + result.get("waitedMs") + "ms (Angular: " + result.get("angular") + ")");
+            return true;
+        }
+        LogUtil.warn("Application stability timeout reached. Continuing anyway. Still busy: " + result.get("busy"));
+        return false;
+    }
+
+    /**
+     * Checks whether network requests of this driver session are tracked, so that
+     * {@link #waitForNetworkIdle()} waits for the network rather than only for the document to load.
+     *
+     * @return True if network idle tracking is available (Chrome and Edge)
+     */
+    public boolean isNetworkTracked() {
+        return NetworkIdleMonitor.get(driver) != null;
+    }
+
+    /**
+     * Waits until no network request has been in flight for network.idle.quiet.millis.
+     * Without network tracking (non-Chromium browsers or network.idle.enabled=false) this only waits for the
+     * page to load.
+     *
+     * @return True if the network became idle, false on timeout or without network tracking
+     */
+    public boolean waitForNetworkIdle() {
+        NetworkIdleMonitor monitor = NetworkIdleMonitor.get(driver);
+        if (monitor == null) {
+            waitForPageLoad();
+            return false;
+        }
+
+        Duration quiet = Duration.ofMillis(config.getIntProperty("network.idle.quiet.millis", 500));
+        Duration timeout = Duration.ofSeconds(config.getIntProperty("network.idle.timeout.seconds", defaultTimeout));
+        LogUtil.debug("Waiting for network idle (" + monitor.getInFlightCount() + " requests in flight)");
+
+        long startTime = System.currentTimeMillis();
+        if (recordWait("network idle", () -> monitor.waitForIdle(quiet, timeout))) {
+            LogUtil.debug("Network idle after " + (System.currentTimeMillis() - startTime) + "ms");
+            return true;
+        }
+        LogUtil.warn("Network idle wait timeout reached. Continuing anyway. Still pending: " + monitor.getInFlightUrls());
+        return false;
+    }
+
     /**
      * Waits for AJAX requests to complete.
+     * Uses network idle tracking when available; otherwise checks jQuery.active.
      */
     public void waitForAjax() {
+        if (isNetworkTracked()) {
+            waitForNetworkIdle();
+            return;
+        }
+
         LogUtil.debug("Waiting for AJAX requests to complete");
 
         try {
-            wait.until(driver -> {
+            recordWait("jQuery idle", () -> wait.until(driver -> {
                 Boolean jQueryDefined = (Boolean) ((JavascriptExecutor) driver)
                         .executeScript("return typeof jQuery != 'undefined'");
                 if (Boolean.TRUE.equals(jQueryDefined)) {
@@ -330,7 +467,7 @@ public class WebElementUtils {
                             .executeScript("return jQuery.active == 0");
                 }
                 return true; // If jQuery is not defined, we assume there are no AJAX requests
-            });
+            }));
             LogUtil.debug("AJAX requests completed");
         } catch (TimeoutException e) {
             LogUtil.warn("AJAX wait timeout reached. Continuing anyway.");
@@ -344,7 +481,7 @@ public class WebElementUtils {
      */
     public void scrollToElement(By locator) {
         String elementDesc = locator.toString();
-        LogUtil.debug("Scrolling to element: " + elementDesc);
+        LogUtil.debug(() -> "Scrolling to element: " + elementDesc);
 
         try {
             WebElement element = waitForPresent(locator);
@@ -355,7 +492,7 @@ public class WebElementUtils {
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             }
-            LogUtil.debug("Scrolled to element: " + elementDesc);
+            LogUtil.debug(() -> "Scrolled to element: " + elementDesc);
         } catch (Exception e) {
             LogUtil.error("Failed to scroll to element: " + elementDesc, e);
             throw new RuntimeException("Failed to scroll to element: " + elementDesc, e);
@@ -369,7 +506,7 @@ public class WebElementUtils {
      */
     public void highlightElement(By locator) {
         String elementDesc = locator.toString();
-        LogUtil.debug("Highlighting element: " + elementDesc);
+        LogUtil.debug(() -> "Highlighting element: " + elementDesc);
 
         try {
             WebElement element = waitForPresent(locator);
@@ -390,7 +527,7 @@ public class WebElementUtils {
                     "arguments[0].setAttribute('style', arguments[1]);",
                     element, originalStyle);
 
-            LogUtil.debug("Element highlighted: " + elementDesc);
+            LogUtil.debug(() -> "Element highlighted: " + elementDesc);
         } catch (Exception e) {
             LogUtil.warn("Failed to highlight element: " + elementDesc, e);
             // Do not throw an exception since highlighting is just for debugging
@@ -406,11 +543,11 @@ public class WebElementUtils {
      * @throws NoSuchElementException if no element with the text is found
      */
     public WebElement findElementByText(List<WebElement> elements, String text) {
-        LogUtil.debug("Finding element with text: " + text);
+        LogUtil.debug(() -> "Finding element with text: " + text);
 
         for (WebElement element : elements) {
             if (text.equals(element.getText().trim())) {
-                LogUtil.debug("Found element with text: " + text);
+                LogUtil.debug(() -> "Found element with text: " + text);
                 return element;
             }
         }
@@ -427,13 +564,13 @@ public class WebElementUtils {
      * @return List of WebElements containing the text
      */
     public List<WebElement> findElementsContainingText(List<WebElement> elements, String text) {
-        LogUtil.debug("Finding elements containing text: " + text);
+        LogUtil.debug(() -> "Finding elements containing text: " + text);
 
         List<WebElement> matchingElements = elements.stream()
                 .filter(element -> element.getText().contains(text))
                 .collect(Collectors.toList());
 
-        LogUtil.debug("Found " + matchingElements.size() + " elements containing text: " + text);
+        LogUtil.debug(() -> "Found " + matchingElements.size() + " elements containing text: " + text);
         return matchingElements;
     }
 
@@ -446,13 +583,13 @@ public class WebElementUtils {
      * @return List of WebElements with matching attribute value
      */
     public List<WebElement> findElementsByAttribute(List<WebElement> elements, String attribute, String value) {
-        LogUtil.debug("Finding elements with attribute " + attribute + "=" + value);
+        LogUtil.debug(() -> "Finding elements with attribute " + attribute + "=" + value);
 
         List<WebElement> matchingElements = elements.stream()
                 .filter(element -> value.equals(element.getAttribute(attribute)))
                 .collect(Collectors.toList());
 
-        LogUtil.debug("Found " + matchingElements.size() + " elements with attribute " + attribute + "=" + value);
+        LogUtil.debug(() -> "Found " + matchingElements.size() + " elements with attribute " + attribute + "=" + value);
         return matchingElements;
     }
 
@@ -463,13 +600,13 @@ public class WebElementUtils {
      */
     public void hover(By locator) {
         String elementDesc = locator.toString();
-        LogUtil.debug("Hovering over element: " + elementDesc);
+        LogUtil.debug(() -> "Hovering over element: " + elementDesc);
 
         try {
             WebElement element = waitForVisible(locator);
             Actions actions = new Actions(driver);
             actions.moveToElement(element).perform();
-            LogUtil.debug("Hovered over element: " + elementDesc);
+            LogUtil.debug(() -> "Hovered over element: " + elementDesc);
         } catch (Exception e) {
             LogUtil.error("Failed to hover over element: " + elementDesc, e);
             throw new RuntimeException("Failed to hover over element: " + elementDesc, e);
@@ -485,7 +622,7 @@ public class WebElementUtils {
      */
     public <T> T waitUntil(Function<WebDriver, T> condition) {
         LogUtil.debug("Waiting for custom condition");
-        return wait.until(condition);
+        return recordWait("custom condition", () -> wait.until(condition));
     }
 
     /**
@@ -496,11 +633,11 @@ public class WebElementUtils {
      */
     public boolean waitForElementToDisappear(By locator) {
         String elementDesc = locator.toString();
-        LogUtil.debug("Waiting for element to disappear: " + elementDesc);
+        LogUtil.debug(() -> "Waiting for element to disappear: " + elementDesc);
 
         try {
-            wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
-            LogUtil.debug("Element disappeared: " + elementDesc);
+            recordWait("invisible " + locator, () -> wait.until(ExpectedConditions.invisibilityOfElementLocated(locator)));
+            LogUtil.debug(() -> "Element disappeared: " + elementDesc);
             return true;
         } catch (TimeoutException e) {
             LogUtil.warn("Element did not disappear within timeout: " + elementDesc);
@@ -517,15 +654,36 @@ public class WebElementUtils {
      */
     public boolean waitForTextPresent(By locator, String text) {
         String elementDesc = locator.toString();
-        LogUtil.debug("Waiting for text '" + text + "' to be present in element: " + elementDesc);
+        LogUtil.debug(() -> "Waiting for text '" + text + "' to be present in element: " + elementDesc);
 
         try {
-            wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
-            LogUtil.debug("Text '" + text + "' is present in element: " + elementDesc);
+            recordWait("text '" + text + "' in " + locator,
+                    () -> wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text)));
+            LogUtil.debug(() -> "Text '" + text + "' is present in element: " + elementDesc);
             return true;
         } catch (TimeoutException e) {
             LogUtil.warn("Text '" + text + "' did not appear in element: " + elementDesc);
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Runs a wait and records it as a JFR wait event. The wait counts as satisfied unless it throws or returns false.
+     *
+     * @param condition What is waited for
+     * @param waitAction The wait
+     * @param <T> The wait result type
+     * @return The wait result
+     */
+    private <T> T recordWait(String condition, Supplier<T> waitAction) {
+        WaitEvent event = WaitEvent.start();
+        boolean satisfied = false;
+        try {
+            T result = waitAction.get();
+            satisfied = !Boolean.FALSE.equals(result);
+            return result;
+        } finally {
+            event.finish(condition, satisfied);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Waits until the application is idle: the document has loaded, every Angular testability reports stable and
+ * no busy indicator (spinner, progress bar, blocking or animating overlay) is visible, all for a quiet window.
+ * Pages without Angular only wait for the document and the busy indicators.
+ *
+ * @param busySelector CSS selector of the busy indicators
+ * @param quietMs      how long the application must stay idle
+ * @param timeoutMs    maximum time to wait
+ * @param done         async script callback, receives {stable, angular, waitedMs, busy};
+ *                     busy lists what was still busy on timeout
+ */
+function run(busySelector, quietMs, timeoutMs, done) {
+    var start = Date.now();
+    var idleSince = null;
+    var zoneListener = false;
+    var timer = null;
+    var finished = false;
+
+    function testabilities() {
+        return typeof window.getAllAngularTestabilities === 'function' ? window.getAllAngularTestabilities() : [];
+    }
+
+    function unstableZones() {
+        return testabilities().filter(function (testability) {
+            return !testability.isStable();
+        });
+    }
+
+    function isVisible(el) {
+        if (!el.getClientRects().length) return false;
+        var style = window.getComputedStyle(el);
+        return style.visibility !== 'hidden' && style.opacity !== '0';
+    }
+
+    function describe(el) {
+        var name = el.tagName.toLowerCase();
+        if (el.className && typeof el.className === 'string') {
+            name += '.' + el.className.trim().split(/\s+/).join('.');
+        }
+        return name;
+    }
+
+    function busyIndicators() {
+        var busy = [];
+        var candidates = document.querySelectorAll(busySelector);
+        for (var i = 0; i < candidates.length; i++) {
+            if (isVisible(candidates[i])) busy.push(describe(candidates[i]));
+        }
+        return busy;
+    }
+
+    function finish(stable, busy) {
+        if (finished) return;
+        finished = true;
+        done({
+            stable: stable,
+            angular: testabilities().length > 0,
+            waitedMs: Date.now() - start,
+            busy: busy
+        });
+    }
+
+    function check() {
+        if (finished) return;
+        var now = Date.now();
+        var zones = unstableZones();
+        var busy = busyIndicators();
+        if (document.readyState !== 'complete') busy.push('document ' + document.readyState);
+        if (zones.length) busy.push('angular zone');
+
+        if (busy.length === 0) {
+            if (idleSince === null) idleSince = now;
+            if (now - idleSince >= quietMs) {
+                finish(true, []);
+                return;
+            }
+        } else {
+            idleSince = null;
+        }
+
+        if (now - start >= timeoutMs) {
+            finish(false, busy);
+            return;
+        }
+
+        // Angular calls back as soon as its zone becomes stable; the timer covers indicators and the quiet window
+        if (zones.length && !zoneListener) {
+            zoneListener = true;
+            zones.forEach(function (testability) {
+                testability.whenStable(function () {
+                    zoneListener = false;
+                    check();
+                });
+            });
+        }
+        clearTimeout(timer);
+        timer = setTimeout(check, idleSince === null ? 50 : Math.min(50, quietMs - (now - idleSince)));
+    }
+
+    check();
+}
@@ -0,0 +1,85 @@
+/**
+ * Fills form fields in order and reports "filled", "kept" or "not found" per field.
+ * Waits inside the page, up to timeoutMs for all fields together, for fields that are still rendering.
+ *
+ * @param fields   [{type: 'css'|'label', locator, input, value, onlyIfEmpty, awaitEmpty}]
+ * @param timeoutMs time allowed for missing fields to appear
+ * @param done     async script callback, receives the status array or an 'error: ...' string
+ */
+function run(fields, timeoutMs, done) {
+    var deadline = Date.now() + timeoutMs;
+    var results = [];
+
+    var usable = function (el) {
+        var rect = el.getBoundingClientRect();
+        return rect.width > 0 && rect.height > 0 && !el.disabled && !el.readOnly;
+    };
+
+    var candidates = function (field) {
+        if (field.type === 'css') {
+            return Array.prototype.filter.call(document.querySelectorAll(field.locator), usable);
+        }
+        var labels = document.querySelectorAll('label, mat-label, span, b');
+        for (var i = labels.length - 1; i >= 0; i--) {
+            if (!labels[i].textContent || labels[i].textContent.indexOf(field.locator) < 0) continue;
+            var container = labels[i].closest('div, mat-form-field, .tecs-flex-container');
+            if (!container) continue;
+            var inputs = Array.prototype.filter.call(container.querySelectorAll(field.input), usable);
+            if (inputs.length > 0) return inputs;
+        }
+        return [];
+    };
+
+    // Set the value through the native setter so framework value trackers see the change
+    var setValue = function (el, value) {
+        var proto = el.tagName === 'TEXTAREA' ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;
+        el.scrollIntoView({block: 'center'});
+        el.focus();
+        Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);
+        el.dispatchEvent(new Event('input', {bubbles: true}));
+        el.dispatchEvent(new Event('change', {bubbles: true}));
+        el.blur();
+    };
+
+    var retry = function (index) {
+        setTimeout(function () { fillField(index); }, 100);
+    };
+
+    var fillField = function (index) {
+        try {
+            fillNext(index);
+        } catch (e) {
+            done('error: ' + e.message);
+        }
+    };
+
+    var fillNext = function (index) {
+        if (index >= fields.length) {
+            done(results);
+            return;
+        }
+
+        var field = fields[index];
+        var found = candidates(field);
+        if (found.length === 0) {
+            if (Date.now() < deadline) { retry(index); return; }
+            results.push('not found');
+        } else {
+            var target = found[found.length - 1];
+            if (field.onlyIfEmpty) {
+                var empty = found.filter(function (el) { return el.value === ''; });
+                target = empty.length > 0 ? empty[empty.length - 1] : null;
+                if (!target && field.awaitEmpty && Date.now() < deadline) { retry(index); return; }
+            }
+            if (target) {
+                setValue(target, field.value);
+                results.push('filled');
+            } else {
+                results.push('kept');
+            }
+        }
+        fillNext(index + 1);
+    };
+
+    fillField(0);
+}
@@ -0,0 +1,132 @@
+/**
+ * Resolves grid title -> table -> first enabled data-row checkbox in one call.
+ * Table strategies, in order:
+ *   section sibling    the div with a table following the title's section header
+ *   parent component   a mat-sort table inside the enclosing app-micro* component
+ *   nearby ancestor    the first mat-sort table with data rows after one of the title's ancestors
+ *   nearest below      the closest mat-sort table with data rows within 1000px below the title
+ *
+ * @param gridTitle text contained in the grid title
+ * @param order     strategy names in the order to try them; strategies not listed are tried last
+ * @return {title, table, row, checkbox, strategy, tableId, tableCount, checkboxCount, diagnostics, attempts};
+ *         element entries are null when they could not be resolved, attempts lists {strategy, hit, millis}
+ */
+function run(gridTitle, order) {
+    var TABLE = 'table.mat-sort';
+    var DATA_CHECKBOX = 'input[type="checkbox"].grid-checkbox';
+    var result = {title: null, table: null, row: null, checkbox: null, strategy: null, tableId: null,
+        tableCount: document.querySelectorAll(TABLE).length, checkboxCount: 0, diagnostics: [], attempts: []};
+
+    var hasDataRows = function (table) {
+        return table.querySelectorAll(DATA_CHECKBOX).length > 1; // header + at least one data row
+    };
+
+    var followingTables = function (element) {
+        var tables = [];
+        for (var sibling = element.nextElementSibling; sibling; sibling = sibling.nextElementSibling) {
+            tables = tables.concat(Array.prototype.slice.call(sibling.matches(TABLE) ? [sibling] : sibling.querySelectorAll(TABLE)));
+        }
+        return tables;
+    };
+
+    var titles = document.querySelectorAll('span.sq-grid-title');
+    for (var i = 0; i < titles.length; i++) {
+        if (titles[i].textContent.includes(gridTitle) && titles[i].offsetParent !== null) {
+            result.title = titles[i];
+            break;
+        }
+    }
+    if (!result.title) {
+        result.diagnostics.push('grid title not found among ' + titles.length + ' grid title(s)');
+        return result;
+    }
+    var title = result.title;
+    title.scrollIntoView({block: 'center'});
+
+    var strategies = [
+        ['section sibling', function () {
+            var header = title.closest('div.section-header');
+            for (var sibling = header ? header.nextElementSibling : null; sibling; sibling = sibling.nextElementSibling) {
+                if (sibling.tagName === 'DIV' && sibling.querySelector('table')) {
+                    return sibling.querySelector('table');
+                }
+            }
+            return null;
+        }],
+        ['parent component', function () {
+            for (var element = title.parentElement; element; element = element.parentElement) {
+                if (element.tagName.toLowerCase().indexOf('app-micro') === 0) {
+                    return element.querySelector(TABLE);
+                }
+            }
+            return null;
+        }],
+        ['nearby ancestor', function () {
+            var ancestor = title;
+            for (var level = 1; level <= 3; level++) {
+                do {
+                    ancestor = ancestor.parentElement;
+                } while (ancestor && ancestor.tagName !== 'DIV');
+                if (!ancestor) return null;
+                var candidates = level < 3 ? followingTables(ancestor) : ancestor.querySelectorAll(TABLE);
+                for (var c = 0; c < candidates.length; c++) {
+                    if (hasDataRows(candidates[c])) return candidates[c];
+                }
+            }
+            return null;
+        }],
+        ['nearest below', function () {
+            var titleY = title.getBoundingClientRect().top;
+            var closest = null;
+            var minDistance = 1000;
+            var tables = document.querySelectorAll(TABLE);
+            for (var t = 0; t < tables.length; t++) {
+                var distance = tables[t].getBoundingClientRect().top - titleY;
+                if (distance > 0 && distance < minDistance && hasDataRows(tables[t])) {
+                    closest = tables[t];
+                    minDistance = distance;
+                }
+            }
+            return closest;
+        }]
+    ];
+
+    var rank = function (strategy) {
+        var index = (order || []).indexOf(strategy[0]);
+        return index < 0 ? strategies.length : index;
+    };
+    strategies.sort(function (a, b) { return rank(a) - rank(b); });
+
+    for (var s = 0; s < strategies.length && !result.table; s++) {
+        var started = performance.now();
+        try {
+            result.table = strategies[s][1]();
+            result.diagnostics.push(strategies[s][0] + ': ' + (result.table ? 'found' : 'no table'));
+            if (result.table) result.strategy = strategies[s][0];
+        } catch (e) {
+            result.diagnostics.push(strategies[s][0] + ': ' + e.message);
+        }
+        result.attempts.push({strategy: strategies[s][0], hit: !!result.table,
+            millis: Math.round(performance.now() - started)});
+    }
+    if (!result.table) {
+        return result;
+    }
+    result.tableId = result.table.id;
+
+    // First displayed, enabled data checkbox; index 0 is the header checkbox
+    var checkboxes = result.table.querySelectorAll('input[type="checkbox"]');
+    result.checkboxCount = checkboxes.length;
+    for (var k = 1; k < checkboxes.length; k++) {
+        var rect = checkboxes[k].getBoundingClientRect();
+        if (!checkboxes[k].disabled && rect.width > 0 && rect.height > 0) {
+            result.checkbox = checkboxes[k];
+            result.row = checkboxes[k].closest('tr');
+            break;
+        }
+    }
+    if (!result.checkbox) {
+        result.diagnostics.push('no enabled data checkbox among ' + checkboxes.length + ' checkbox(es)');
+    }
+    return result;
+}
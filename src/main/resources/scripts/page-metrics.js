@@ -0,0 +1,57 @@
+/**
+ * Reads the Navigation Timing and Paint Timing metrics of the current document.
+ * Largest contentful paint is only exposed to performance observers, so the result is a promise that resolves
+ * once the buffered LCP entries have been delivered (or after a short fallback delay if there are none).
+ *
+ * @return promise of {url, ttfb, domContentLoaded, load, fcp, lcp, transferSize}; times are milliseconds from
+ *         navigation start, -1 if not (yet) available
+ */
+function run() {
+    var navigation = performance.getEntriesByType('navigation')[0];
+    var legacy = performance.timing;
+
+    function since(value) {
+        return value > 0 ? Math.round(value) : -1;
+    }
+
+    function legacySince(value) {
+        return value > 0 && legacy.navigationStart > 0 ? value - legacy.navigationStart : -1;
+    }
+
+    var fcp = -1;
+    performance.getEntriesByType('paint').forEach(function (entry) {
+        if (entry.name === 'first-contentful-paint') fcp = Math.round(entry.startTime);
+    });
+
+    var metrics = {
+        url: location.href,
+        ttfb: navigation ? since(navigation.responseStart) : legacySince(legacy.responseStart),
+        domContentLoaded: navigation ? since(navigation.domContentLoadedEventEnd) : legacySince(legacy.domContentLoadedEventEnd),
+        load: navigation ? since(navigation.loadEventEnd) : legacySince(legacy.loadEventEnd),
+        fcp: fcp,
+        lcp: -1,
+        transferSize: navigation && navigation.transferSize ? navigation.transferSize : -1
+    };
+
+    return new Promise(function (resolve) {
+        var supported = typeof PerformanceObserver === 'function' &&
+            (PerformanceObserver.supportedEntryTypes || []).indexOf('largest-contentful-paint') >= 0;
+        if (!supported) {
+            resolve(metrics);
+            return;
+        }
+
+        var observer = new PerformanceObserver(function (list) {
+            var entries = list.getEntries();
+            if (entries.length) metrics.lcp = Math.round(entries[entries.length - 1].startTime);
+            observer.disconnect();
+            resolve(metrics);
+        });
+        observer.observe({type: 'largest-contentful-paint', buffered: true});
+        // No LCP entry is delivered when the page has painted no content yet
+        setTimeout(function () {
+            observer.disconnect();
+            resolve(metrics);
+        }, 100);
+    });
+}
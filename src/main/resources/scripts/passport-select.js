@@ -0,0 +1,66 @@
+/**
+ * Opens the dropdown next to the last visible label containing fieldLabel (or the last visible dropdown)
+ * and picks the option containing optionText, or the first option.
+ *
+ * @param fieldLabel label text of the dropdown
+ * @param optionText text of the option to select
+ * @return a promise resolving to true if an option was selected
+ */
+function run(fieldLabel, optionText) {
+    var visible = function (el) {
+        var rect = el.getBoundingClientRect();
+        return rect.width > 0 && rect.height > 0;
+    };
+
+    var findDropdown = function () {
+        var labels = document.querySelectorAll('label, mat-label, span');
+        for (var i = labels.length - 1; i >= 0; i--) {
+            if (labels[i].textContent && labels[i].textContent.includes(fieldLabel)) {
+                var container = labels[i].closest('div, mat-form-field, .tecs-flex-container');
+                if (container) {
+                    var dropdown = container.querySelector('mat-select:not([aria-disabled="true"]), select:not([disabled])');
+                    if (dropdown && visible(dropdown)) {
+                        return dropdown;
+                    }
+                }
+            }
+        }
+        var allDropdowns = document.querySelectorAll('mat-select:not([aria-disabled="true"]), select:not([disabled])');
+        for (var j = allDropdowns.length - 1; j >= 0; j--) {
+            if (visible(allDropdowns[j])) {
+                return allDropdowns[j];
+            }
+        }
+        return null;
+    };
+
+    return new Promise(function (resolve) {
+        var choose = function (option) {
+            option.click();
+            setTimeout(function () { document.body.click(); resolve(true); }, 500);
+        };
+
+        setTimeout(function () {
+            var targetDropdown = findDropdown();
+            if (!targetDropdown) { resolve(false); return; }
+
+            var trigger = targetDropdown.querySelector('.mat-select-trigger');
+            if (trigger) { trigger.click(); } else { targetDropdown.click(); }
+
+            setTimeout(function () {
+                var options = document.querySelectorAll('mat-option:not(.mat-option-disabled), option:not([disabled])');
+                for (var k = 0; k < options.length; k++) {
+                    if (options[k].offsetParent !== null && options[k].textContent.includes(optionText)) {
+                        choose(options[k]);
+                        return;
+                    }
+                }
+                if (options.length > 0) {
+                    choose(options[0]);
+                } else {
+                    resolve(false);
+                }
+            }, 3000);
+        }, 1000);
+    });
+}
@@ -0,0 +1,45 @@
+/**
+ * Selects a record in the PX search results: the first data row of #px3-table, otherwise the first
+ * row containing preferredText, otherwise the first data checkbox on the page.
+ *
+ * @param preferredText row text (lower case) to prefer when #px3-table is not present
+ * @return true if a record was selected
+ */
+function run(preferredText) {
+    var select = function (checkbox) {
+        checkbox.scrollIntoView({behavior: 'smooth', block: 'center'});
+        checkbox.focus();
+        checkbox.checked = true;
+        checkbox.dispatchEvent(new Event('input', {bubbles: true}));
+        checkbox.dispatchEvent(new Event('change', {bubbles: true}));
+        checkbox.click();
+        return true;
+    };
+
+    try {
+        var pxTable = document.querySelector('#px3-table');
+        if (pxTable) {
+            var tableCheckboxes = pxTable.querySelectorAll('input[type="checkbox"].grid-checkbox');
+            if (tableCheckboxes.length > 1) { // index 0 is the header checkbox
+                return select(tableCheckboxes[1]);
+            }
+        }
+    } catch (e) {
+        console.error('JS Error:', e);
+    }
+
+    // Alternative approach - look for any PX result checkbox
+    var allCheckboxes = document.querySelectorAll('input[type="checkbox"].grid-checkbox');
+    for (var i = 0; i < allCheckboxes.length; i++) {
+        var row = allCheckboxes[i].closest('tr');
+        if (row && row.textContent.toLowerCase().includes(preferredText)) {
+            return select(allCheckboxes[i]);
+        }
+    }
+
+    // If no specific result found, select first available data checkbox
+    if (allCheckboxes.length > 1) {
+        return select(allCheckboxes[1]);
+    }
+    return false;
+}
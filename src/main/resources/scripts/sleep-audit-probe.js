@@ -0,0 +1,19 @@
+/**
+ * Reports how settled the current document is, for the sleep auditor.
+ * The first call in a document installs a mutation observer that keeps the time of the last DOM change.
+ *
+ * @return {readyState, sinceMutation}; sinceMutation is the time in ms since the DOM last changed
+ */
+function run() {
+    var audit = window.__cbpSleepAudit;
+    if (!audit) {
+        audit = window.__cbpSleepAudit = {lastMutation: Date.now()};
+        new MutationObserver(function () {
+            audit.lastMutation = Date.now();
+        }).observe(document, {childList: true, subtree: true, attributes: true, characterData: true});
+    }
+    return {
+        readyState: document.readyState,
+        sinceMutation: Date.now() - audit.lastMutation
+    };
+}
@@ -0,0 +1,93 @@
+/**
+ * Clicks the submit button and captures the TECS ID from the page content rendered in response.
+ * A MutationObserver is armed before the click, so only text added after the submit is examined and the
+ * result is returned as soon as it renders. A "TECS ID: <id>" label resolves immediately; a weaker match
+ * (letters followed by digits, or an alphanumeric ID in a success message) is used if no label follows
+ * within a short grace period.
+ *
+ * @param timeoutMs time to wait for the ID after the submit
+ * @param done      async script callback, receives {submitted, tecsId, strategy, pageContent}
+ */
+function run(timeoutMs, done) {
+    var LABELLED = /TECS ID:\s*([A-Z0-9]+)/i;
+    var RECORD_NUMBER = /[A-Z]{2,}[0-9]{5,}/;
+    var SUCCESS_ID = /[A-Z0-9]{6,}/;
+    var SUCCESS_SELECTOR = '.success, .alert-success, .notification, .message';
+    var WEAK_MATCH_GRACE_MS = 1000;
+
+    var finished = false;
+    var weak = null;
+    var observer = null;
+    var timers = [];
+
+    var elementOf = function (node) {
+        return node.nodeType === Node.ELEMENT_NODE ? node : node.parentElement;
+    };
+
+    var finish = function (submitted, match) {
+        if (finished) return;
+        finished = true;
+        if (observer) observer.disconnect();
+        timers.forEach(clearTimeout);
+
+        var result = {submitted: submitted, tecsId: null, strategy: null, pageContent: null};
+        if (match) {
+            result.tecsId = match.id;
+            result.strategy = match.strategy;
+            if (match.element) {
+                match.element.style.backgroundColor = 'yellow';
+                match.element.style.border = '2px solid red';
+                match.element.scrollIntoView({behavior: 'smooth', block: 'center'});
+            }
+        } else if (document.body) {
+            result.pageContent = document.body.textContent.substring(0, 1000);
+        }
+        done(result);
+    };
+
+    var examine = function (node) {
+        var text = node.textContent;
+        if (!text) return;
+
+        var labelled = text.match(LABELLED);
+        if (labelled) {
+            finish(true, {id: labelled[1], strategy: 'label', element: elementOf(node)});
+            return;
+        }
+        if (weak) return;
+
+        var element = elementOf(node);
+        var successId = element && element.closest(SUCCESS_SELECTOR) ? text.match(SUCCESS_ID) : null;
+        var recordNumber = text.match(RECORD_NUMBER);
+        var match = recordNumber || successId;
+        if (match) {
+            weak = {id: match[0], strategy: recordNumber ? 'record number' : 'success message', element: element};
+            timers.push(setTimeout(function () { finish(true, weak); }, WEAK_MATCH_GRACE_MS));
+        }
+    };
+
+    observer = new MutationObserver(function (mutations) {
+        for (var i = 0; i < mutations.length && !finished; i++) {
+            var mutation = mutations[i];
+            if (mutation.type === 'characterData') {
+                examine(mutation.target);
+            } else {
+                for (var j = 0; j < mutation.addedNodes.length && !finished; j++) {
+                    examine(mutation.addedNodes[j]);
+                }
+            }
+        }
+    });
+    observer.observe(document.body, {childList: true, subtree: true, characterData: true});
+
+    var buttons = document.querySelectorAll('button');
+    for (var i = 0; i < buttons.length; i++) {
+        if (buttons[i].textContent.toLowerCase().includes('submit') && !buttons[i].disabled) {
+            buttons[i].scrollIntoView({behavior: 'smooth', block: 'center'});
+            buttons[i].click();
+            timers.push(setTimeout(function () { finish(true, weak); }, timeoutMs));
+            return;
+        }
+    }
+    finish(false, null);
+}
@@ -0,0 +1,28 @@
+/**
+ * Waits until the toast monitor has recorded an error, or until the timeout.
+ *
+ * @param timeoutMs maximum time to wait
+ * @param done      async script callback, receives true if an error was recorded, false on timeout
+ *                  and null if the monitor is not installed in this page
+ */
+function run(timeoutMs, done) {
+    var monitor = window.__cbpToastMonitor;
+    if (!monitor) {
+        done(null);
+        return;
+    }
+    if (monitor.queue.length > 0) {
+        done(true);
+        return;
+    }
+
+    var finished = false;
+    var finish = function (result) {
+        if (!finished) {
+            finished = true;
+            done(result);
+        }
+    };
+    monitor.listeners.push(function () { finish(true); });
+    setTimeout(function () { finish(false); }, timeoutMs);
+}
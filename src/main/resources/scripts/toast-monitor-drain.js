@@ -0,0 +1,12 @@
+/**
+ * Takes all errors recorded by the toast monitor since the last drain.
+ *
+ * @return the recorded errors, or null if the monitor is not installed in this page
+ */
+function run() {
+    var monitor = window.__cbpToastMonitor;
+    if (!monitor) {
+        return null;
+    }
+    return monitor.queue.splice(0, monitor.queue.length);
+}
@@ -0,0 +1,84 @@
+/**
+ * Installs the error toast monitor in the current page, once per document.
+ * A MutationObserver records every error toast or error message as it is added, so toasts are not missed
+ * when they disappear before Java looks for them. Error toasts already visible at install time are recorded too.
+ * Recorded errors are kept in window.__cbpToastMonitor.queue as {summary, detail, timestamp}.
+ *
+ * @return true if the monitor was installed now, false if it was already installed
+ */
+function run() {
+    if (window.__cbpToastMonitor) {
+        return false;
+    }
+
+    var ERROR_SELECTOR = '.p-toast-message-error, .errorMessage, .error-toast';
+    var ERROR_PATTERN = /Action Error|Index .*out of bounds|0 out of bounds for length 0/;
+    var seen = new WeakSet();
+    var monitor = {queue: [], listeners: []};
+
+    var text = function (element) {
+        return element ? element.textContent.trim() : '';
+    };
+
+    var record = function (summary, detail) {
+        var entry = {summary: summary, detail: detail, timestamp: Date.now()};
+        monitor.queue.push(entry);
+        var listeners = monitor.listeners;
+        monitor.listeners = [];
+        listeners.forEach(function (listener) { listener(entry); });
+    };
+
+    // Toast text is rendered by the framework after the element is added; read it once it has settled
+    var recordToast = function (errorElement) {
+        var toast = errorElement.closest('p-toastitem') || errorElement;
+        if (seen.has(toast)) return;
+        seen.add(toast);
+        setTimeout(function () {
+            var summary = text(toast.querySelector('.p-toast-summary'));
+            var detail = text(toast.querySelector('.p-toast-detail'));
+            if (summary || detail) {
+                record(summary || 'Unknown Error', detail || 'No details available');
+            } else {
+                record('Error', text(toast).substring(0, 200));
+            }
+        }, 50);
+    };
+
+    var examine = function (element) {
+        if (element.matches(ERROR_SELECTOR)) {
+            recordToast(element);
+        }
+        var nested = element.querySelectorAll(ERROR_SELECTOR);
+        for (var i = 0; i < nested.length; i++) {
+            recordToast(nested[i]);
+        }
+        if (nested.length === 0 && !seen.has(element)) {
+            var content = text(element);
+            if (content.length < 500 && ERROR_PATTERN.test(content)) {
+                seen.add(element);
+                record('Error', content.substring(0, 200));
+            }
+        }
+    };
+
+    var visible = document.querySelectorAll(ERROR_SELECTOR);
+    for (var i = 0; i < visible.length; i++) {
+        if (visible[i].offsetParent !== null) {
+            recordToast(visible[i]);
+        }
+    }
+
+    new MutationObserver(function (mutations) {
+        for (var m = 0; m < mutations.length; m++) {
+            var added = mutations[m].addedNodes;
+            for (var n = 0; n < added.length; n++) {
+                if (added[n].nodeType === Node.ELEMENT_NODE) {
+                    examine(added[n]);
+                }
+            }
+        }
+    }).observe(document.body, {childList: true, subtree: true});
+
+    window.__cbpToastMonitor = monitor;
+    return true;
+}